@@ -0,0 +1,105 @@
+package com.core.banking.benchmark;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.core.banking.dto.AccountImportResult;
+import com.core.banking.model.Currencies;
+import com.core.banking.service.AccountImporter;
+import com.core.banking.service.AccountService;
+import com.core.banking.service.AccountStore;
+import com.core.banking.service.HeapAccountStore;
+import com.core.banking.service.OffHeapAccountStore;
+import com.core.banking.service.TransactionJournal;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+@State(Scope.Benchmark)
+public class AccountImportBenchmark {
+
+    @Param("10000000")
+    int accounts;
+
+    @Param({"csv", "binary"})
+    String format;
+
+    @Param({"heap", "off-heap"})
+    String store;
+
+    Path directory;
+    String file;
+    AccountImporter importer;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("account-import-benchmark");
+        file = "accounts." + ("csv".equals(format) ? "csv" : "bin");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(directory.resolve(file)), 1 << 16)) {
+            if ("csv".equals(format)) {
+                out.write("id,balance,currency\n".getBytes(StandardCharsets.US_ASCII));
+                for (int i = 0; i < accounts; i++) {
+                    out.write((Fixtures.id(i) + ",1000000.00,GBP\n").getBytes(StandardCharsets.US_ASCII));
+                }
+            } else {
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeInt(AccountImporter.BINARY_MAGIC);
+                data.writeInt(AccountImporter.BINARY_VERSION);
+                for (int i = 0; i < accounts; i++) {
+                    data.writeLong(Fixtures.id(i).getMostSignificantBits());
+                    data.writeLong(Fixtures.id(i).getLeastSignificantBits());
+                    data.writeLong(100_000_000L);
+                    data.writeShort(Currencies.numericCode(Currencies.codeOf("GBP")));
+                    data.writeLong(0);
+                }
+                data.flush();
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyStore() throws Exception {
+        importer = null;
+        System.gc();
+        AccountStore accountStore = "off-heap".equals(store) ? new OffHeapAccountStore(accounts) : new HeapAccountStore(new ConcurrentHashMap<>(accounts));
+        importer = new AccountImporter(new AccountService(accountStore), new TransactionJournal(false, null, 0), directory.toString(), "", 0);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public AccountImportResult importAccounts() throws Exception {
+        AccountImportResult result = importer.importFromDirectory(file);
+        System.out.printf("%n%s %s: %d accounts/s%n", format, store, result.getAccountsPerSecond());
+        return result;
+    }
+}
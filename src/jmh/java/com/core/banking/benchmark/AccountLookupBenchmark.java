@@ -0,0 +1,53 @@
+package com.core.banking.benchmark;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.core.banking.model.Account;
+import com.core.banking.service.AccountService;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class AccountLookupBenchmark {
+
+    @Param("1000000")
+    int accounts;
+
+    UUID[] ids;
+    AccountService accountService;
+
+    @Setup
+    public void setUp() {
+        ids = Fixtures.ids(accounts);
+        accountService = new AccountService(Fixtures.accounts(ids));
+    }
+
+    @Benchmark
+    public Optional<Account> hit() {
+        return accountService.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public Optional<Account> miss() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return accountService.findById(new UUID(random.nextLong(), random.nextLong()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.core.banking.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.model.Account;
+import com.core.banking.service.AccountLocks;
+import com.core.banking.service.AccountService;
+import com.core.banking.service.BalanceSnapshotter;
+import com.core.banking.service.AccountStore;
+import com.core.banking.service.HeapAccountStore;
+import com.core.banking.service.IdempotencyCache;
+import com.core.banking.service.CurrencyConversionService;
+import com.core.banking.service.OffHeapAccountStore;
+import com.core.banking.service.TransactionLedger;
+import com.core.banking.service.TransactionService;
+import com.core.banking.service.TransferEventLog;
+import com.core.banking.service.TransferMetrics;
+import com.core.banking.service.TransferSequencer;
+import com.core.banking.service.TransferShards;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+@State(Scope.Benchmark)
+public class AccountStoreBenchmark {
+
+    @Param({"heap", "off-heap"})
+    String store;
+
+    @Param("10000000")
+    int accounts;
+
+    AccountStore accountStore;
+    AccountService accountService;
+    TransactionService transactionService;
+
+    @Setup
+    public void setUp() throws Exception {
+        accountStore = "off-heap".equals(store) ? new OffHeapAccountStore(accounts) : new HeapAccountStore(new ConcurrentHashMap<>(accounts * 2));
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        for (int i = 0; i < accounts; i++) {
+            accountStore.put(new Account(Fixtures.id(i), Fixtures.OPENING_BALANCE, "GBP", createdAt));
+        }
+        accountService = new AccountService(accountStore);
+        transactionService = new TransactionService(new TransactionLedger(new ConcurrentHashMap<>()), accountService, new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(1024), Fixtures.noJournal(), new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 16), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+
+        System.gc();
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        long offHeap = accountStore instanceof OffHeapAccountStore ? ((OffHeapAccountStore) accountStore).memoryUsage() : 0;
+        System.out.printf("%n%s store, %d accounts: heap used %d MB, off-heap %d MB%n", store, accounts, heap >> 20, offHeap >> 20);
+    }
+
+    @Benchmark
+    public Object lookup() {
+        return accountService.findById(Fixtures.id(ThreadLocalRandom.current().nextInt(accounts)));
+    }
+
+    @Benchmark
+    public void transfer() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = random.nextInt(accounts);
+        int target = (source + 1 + random.nextInt(accounts - 1)) % accounts;
+        transactionService.transfer(new TransactionDto(Fixtures.id(source), Fixtures.id(target), BigDecimal.ONE, "GBP"));
+    }
+}
@@ -0,0 +1,141 @@
+package com.core.banking.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.core.banking.BankingApplication;
+import com.core.banking.model.Account;
+import com.core.banking.service.AccountStore;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ApiLoadBenchmark {
+
+    @Param({"true", "false"})
+    boolean async;
+
+    @Param({"64", "1024", "4096"})
+    int concurrency;
+
+    @Param("16")
+    int threads;
+
+    @Param("true")
+    boolean journal;
+
+    @Param("10000")
+    int accounts;
+
+    Path directory;
+    ConfigurableApplicationContext context;
+    ExecutorService executor;
+    HttpClient client;
+    URI uri;
+    UUID[] ids;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("api-load-benchmark");
+        context = new SpringApplicationBuilder(BankingApplication.class)
+                .properties("server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "server.tomcat.threads.max=" + threads,
+                        "server.tomcat.max-connections=" + concurrency * 2,
+                        "server.tomcat.max-keep-alive-requests=-1",
+                        "server.tomcat.accept-count=" + concurrency,
+                        "banking.api.async=" + async,
+                        "banking.journal.enabled=" + journal,
+                        "banking.journal.path=" + directory.resolve("transactions.journal"))
+                .run();
+        ids = Fixtures.ids(accounts);
+        AccountStore accountStore = context.getBean(AccountStore.class);
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        for (UUID id : ids) {
+            accountStore.put(new Account(id, Fixtures.OPENING_BALANCE, "GBP", createdAt));
+        }
+        executor = Executors.newFixedThreadPool(4);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build();
+        uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/transactions");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        System.out.printf("%nasync=%s, concurrency=%d: peak threads %d%n", async, concurrency, ManagementFactory.getThreadMXBean().getPeakThreadCount());
+        context.close();
+        executor.shutdownNow();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void transfers(Requests requests) {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < concurrency; i++) {
+            int source = random.nextInt(ids.length);
+            int target = (source + 1 + random.nextInt(ids.length - 1)) % ids.length;
+            String body = "{\"sourceAccountId\":\"" + ids[source] + "\",\"targetAccountId\":\"" + ids[target] + "\",\"amount\":1,\"currency\":\"GBP\"}";
+            responses[i] = client.sendAsync(HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("transfer failed: " + response.statusCode());
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        requests.completed += concurrency;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Requests {
+
+        public long completed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            completed = 0;
+        }
+    }
+}
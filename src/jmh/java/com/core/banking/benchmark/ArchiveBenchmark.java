@@ -0,0 +1,114 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.core.banking.dto.TransactionFilter;
+import com.core.banking.dto.TransactionPage;
+import com.core.banking.model.Transaction;
+import com.core.banking.service.TransactionArchive;
+import com.core.banking.service.TransactionLedger;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ArchiveBenchmark {
+
+    static final Instant START = Instant.parse("2021-06-01T00:00:00Z");
+
+    @Param({"hot", "cold"})
+    String tier;
+
+    @Param("1000000")
+    int transactions;
+
+    @Param("100")
+    int buckets;
+
+    Path directory;
+    TransactionLedger ledger;
+    UUID[] accounts;
+    UUID[] ids;
+    long span;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("archive-benchmark");
+        long bucketMillis = 60_000;
+        ledger = new TransactionLedger(new HashMap<>(), new TransactionArchive("cold".equals(tier), directory.toString(), bucketMillis, 1, 4));
+        accounts = Fixtures.ids(1000);
+        ids = new UUID[transactions];
+        span = bucketMillis * buckets;
+        for (int i = 0; i < transactions; i++) {
+            ids[i] = Fixtures.id(i);
+            Transaction transaction = new Transaction(ids[i], accounts[i % accounts.length], accounts[(i * 7 + 1) % accounts.length], BigDecimal.ONE, "GBP",
+                    Timestamp.from(START.plusMillis(span * i / transactions)));
+            transaction.setStatus(Transaction.Status.SUCCESS);
+            ledger.add(transaction);
+        }
+        ledger.compact();
+        System.gc();
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        long disk;
+        try (Stream<Path> files = Files.walk(directory)) {
+            disk = files.filter(Files::isRegularFile).mapToLong(path -> path.toFile().length()).sum();
+        }
+        System.out.printf("%n%s: %d transactions, heap used %d MB, archive %d MB%n", tier, transactions, heap >> 20, disk >> 20);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Optional<Transaction> findById() {
+        return ledger.findById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+    }
+
+    @Benchmark
+    public Optional<Transaction> findMissing() {
+        return ledger.findById(UUID.randomUUID());
+    }
+
+    @Benchmark
+    public TransactionPage accountPage() {
+        UUID account = accounts[ThreadLocalRandom.current().nextInt(accounts.length)];
+        return ledger.findPage(new TransactionFilter(account, null, null, null), null, 50);
+    }
+
+    @Benchmark
+    public TransactionPage timeRangePage() {
+        Instant from = START.plusMillis(ThreadLocalRandom.current().nextLong(span));
+        return ledger.findPage(new TransactionFilter(null, null, from, from.plusSeconds(60)), null, 100);
+    }
+}
@@ -0,0 +1,110 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.dto.AccountBalance;
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.service.AccountLocks;
+import com.core.banking.service.AccountService;
+import com.core.banking.service.AccountStore;
+import com.core.banking.service.BalanceSnapshotter;
+import com.core.banking.service.CurrencyConversionService;
+import com.core.banking.service.HeapAccountStore;
+import com.core.banking.service.IdempotencyCache;
+import com.core.banking.service.OffHeapAccountStore;
+import com.core.banking.service.TransactionLedger;
+import com.core.banking.service.TransactionService;
+import com.core.banking.service.TransferEventLog;
+import com.core.banking.service.TransferMetrics;
+import com.core.banking.service.TransferSequencer;
+import com.core.banking.service.TransferShards;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class BalanceReadBenchmark {
+
+    static final BigDecimal AMOUNT = BigDecimal.ONE;
+
+    @Param("10000")
+    int accounts;
+
+    @Param({"heap", "off-heap"})
+    String store;
+
+    @Param({"lock-free", "locked"})
+    String read;
+
+    @Param({"false", "true"})
+    boolean hot;
+
+    UUID[] ids;
+    AccountLocks accountLocks;
+    AccountService accountService;
+    TransactionService transactionService;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        ids = Fixtures.ids(accounts);
+        AccountStore accountStore = new HeapAccountStore(Fixtures.accounts(ids));
+        if ("off-heap".equals(store)) {
+            AccountStore offHeap = new OffHeapAccountStore(accounts);
+            accountStore.forEach(offHeap::put);
+            accountStore = offHeap;
+        }
+        accountLocks = new AccountLocks(1024);
+        accountService = new AccountService(accountStore, hot ? ids[0].toString() : "", 16);
+        transactionService = new TransactionService(new TransactionLedger(new ConcurrentHashMap<>()), accountService, new CurrencyConversionService("", RoundingMode.HALF_EVEN), accountLocks, Fixtures.noJournal(), new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 16), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+    }
+
+    @Benchmark
+    public Object ninetyFivePercentReads() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = 1 + random.nextInt(ids.length - 1);
+        if (random.nextInt(100) < 5) {
+            int target = random.nextBoolean() ? 0 : (source + 1 + random.nextInt(ids.length - 1)) % ids.length;
+            transactionService.transfer(new TransactionDto(ids[source], ids[target], AMOUNT, "GBP"));
+            return null;
+        }
+        UUID id = random.nextBoolean() ? ids[0] : ids[source];
+        if ("lock-free".equals(read)) {
+            return accountService.findBalance(id).get();
+        }
+        accountLocks.lock(id);
+        try {
+            return accountService.findBalance(id).get();
+        } finally {
+            accountLocks.unlock(id);
+        }
+    }
+
+    @Benchmark
+    public AccountBalance readOnly() {
+        return accountService.findBalance(ids[ThreadLocalRandom.current().nextInt(ids.length)]).get();
+    }
+}
@@ -0,0 +1,68 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.dto.TransferResult;
+import com.core.banking.service.TransactionService;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+
+    static final int BATCH_SIZE = 1000;
+
+    List<TransactionDto> batch;
+    TransactionService transactionService;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        UUID[] ids = Fixtures.ids(BATCH_SIZE);
+        transactionService = Fixtures.transactionService(Fixtures.accounts(ids), Fixtures.noJournal());
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new TransactionDto(ids[i], ids[(i + 1) % ids.length], BigDecimal.ONE, "GBP"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void single() throws Exception {
+        for (TransactionDto dto : batch) {
+            transactionService.transfer(dto);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<TransferResult> batch() {
+        return transactionService.transferBatch(batch, false);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<TransferResult> atomicBatch() {
+        return transactionService.transferBatch(batch, true);
+    }
+}
@@ -0,0 +1,86 @@
+package com.core.banking.benchmark;
+
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.core.banking.model.Currencies;
+import com.core.banking.service.CurrencyConversionService;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class ConversionBenchmark {
+
+    static final int[] CURRENCIES = {
+            Currencies.codeOf("GBP"), Currencies.codeOf("EUR"), Currencies.codeOf("USD"), Currencies.codeOf("JPY")
+    };
+
+    Path path;
+    CurrencyConversionService conversionService;
+
+    @Setup
+    public void setUp() throws Exception {
+        path = Files.createTempFile("rates", ".properties");
+        Files.write(path, "pivot=USD\nGBP=0.79\nEUR=0.92\nJPY=151.60\n".getBytes(StandardCharsets.UTF_8));
+        conversionService = new CurrencyConversionService(path.toString(), RoundingMode.HALF_EVEN);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    @Group("steady")
+    @GroupThreads(4)
+    public long steadyConvert() throws Exception {
+        return convert();
+    }
+
+    @Benchmark
+    @Group("refreshing")
+    @GroupThreads(3)
+    public long refreshingConvert() throws Exception {
+        return convert();
+    }
+
+    @Benchmark
+    @Group("refreshing")
+    @GroupThreads(1)
+    public void refresh() throws Exception {
+        conversionService.reload();
+    }
+
+    @Benchmark
+    @Group("sameCurrency")
+    @GroupThreads(4)
+    public long sameCurrencyConvert() throws Exception {
+        return conversionService.convert(ThreadLocalRandom.current().nextInt(1, 1_000_000), CURRENCIES[0], CURRENCIES[0]);
+    }
+
+    private long convert() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return conversionService.convert(random.nextInt(1, 1_000_000), CURRENCIES[random.nextInt(CURRENCIES.length)], CURRENCIES[random.nextInt(CURRENCIES.length)]);
+    }
+}
@@ -0,0 +1,99 @@
+package com.core.banking.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.model.Account;
+import com.core.banking.service.AccountLocks;
+import com.core.banking.service.AccountService;
+import com.core.banking.service.BalanceSnapshotter;
+import com.core.banking.service.IdempotencyCache;
+import com.core.banking.service.CurrencyConversionService;
+import com.core.banking.service.TransactionJournal;
+import com.core.banking.service.TransactionLedger;
+import com.core.banking.service.TransactionService;
+import com.core.banking.service.TransferEventLog;
+import com.core.banking.service.TransferMetrics;
+import com.core.banking.service.TransferSequencer;
+import com.core.banking.service.TransferShards;
+
+final class Fixtures {
+
+    static final BigDecimal OPENING_BALANCE = new BigDecimal(1_000_000_000);
+
+    static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private Fixtures() {
+    }
+
+    static UUID[] ids(int count) {
+        UUID[] ids = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = UUID.randomUUID();
+        }
+        return ids;
+    }
+
+    static UUID id(int index) {
+        return new UUID(mix(index), mix(~index));
+    }
+
+    static Map<UUID, Account> accounts(UUID[] ids) {
+        Map<UUID, Account> accounts = new ConcurrentHashMap<>(ids.length * 2);
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        for (UUID id : ids) {
+            accounts.put(id, new Account(id, OPENING_BALANCE, "GBP", createdAt));
+        }
+        return accounts;
+    }
+
+    static TransactionJournal noJournal() throws IOException {
+        return new TransactionJournal(false, null, 0);
+    }
+
+    static TransactionService transactionService(Map<UUID, Account> accounts, TransactionJournal journal) throws IOException {
+        return transactionService(accounts, journal, new SimpleMeterRegistry());
+    }
+
+    static TransactionService transactionService(Map<UUID, Account> accounts, TransactionJournal journal, MeterRegistry meterRegistry) throws IOException {
+        return transactionService(accounts, journal, meterRegistry, new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD));
+    }
+
+    static TransactionService transactionService(Map<UUID, Account> accounts, TransactionJournal journal, MeterRegistry meterRegistry, TransferShards transferShards) throws IOException {
+        return new TransactionService(new TransactionLedger(new ConcurrentHashMap<>()), new AccountService(accounts), new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(1024), journal, new IdempotencyCache(1000, 60), new TransferMetrics(meterRegistry, 16), transferShards, new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+    }
+
+    static MeterRegistry meterRegistry(boolean enabled) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        if (!enabled) {
+            meterRegistry.config().meterFilter(MeterFilter.deny());
+        }
+        return meterRegistry;
+    }
+
+    private static long mix(long value) {
+        long z = (value + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,94 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.service.AccountLocks;
+import com.core.banking.service.AccountService;
+import com.core.banking.service.BalanceSnapshotter;
+import com.core.banking.service.CurrencyConversionService;
+import com.core.banking.service.HeapAccountStore;
+import com.core.banking.service.IdempotencyCache;
+import com.core.banking.service.TransactionLedger;
+import com.core.banking.service.TransactionService;
+import com.core.banking.service.TransferEventLog;
+import com.core.banking.service.TransferMetrics;
+import com.core.banking.service.TransferSequencer;
+import com.core.banking.service.TransferShards;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class HotAccountBenchmark {
+
+    static final BigDecimal AMOUNT = BigDecimal.ONE;
+
+    @Param("10000")
+    int accounts;
+
+    @Param({"true", "false"})
+    boolean hot;
+
+    @Param({TransferShards.LOCKING, TransferShards.SHARDED})
+    String mode;
+
+    @Param("16")
+    int slots;
+
+    UUID[] ids;
+    AccountService accountService;
+    TransferShards transferShards;
+    TransactionService transactionService;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        ids = Fixtures.ids(accounts);
+        accountService = new AccountService(new HeapAccountStore(Fixtures.accounts(ids)), hot ? ids[0].toString() : "", slots);
+        transferShards = new TransferShards(mode, 4, 1024, TransferSequencer.WaitStrategy.YIELD);
+        transactionService = new TransactionService(new TransactionLedger(new ConcurrentHashMap<>()), accountService, new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(1024), Fixtures.noJournal(), new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 16), transferShards, new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        transferShards.close();
+    }
+
+    @Benchmark
+    public void ninetyPercentToOneTarget() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = 1 + random.nextInt(ids.length - 1);
+        int target = random.nextInt(10) < 9 ? 0 : (source + 1 + random.nextInt(ids.length - 1)) % ids.length;
+        transactionService.transfer(new TransactionDto(ids[source], ids[target], AMOUNT, "GBP"));
+    }
+
+    @Benchmark
+    public long aggregateBalance() {
+        return accountService.findById(ids[0]).get().getBalanceMinorUnits();
+    }
+}
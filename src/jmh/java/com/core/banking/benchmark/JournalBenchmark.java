@@ -0,0 +1,64 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.service.TransactionJournal;
+import com.core.banking.service.TransactionService;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class JournalBenchmark {
+
+    UUID[] ids;
+    Path directory;
+    TransactionJournal journal;
+    TransactionService transactionService;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        ids = Fixtures.ids(10_000);
+        directory = Files.createTempDirectory("journal-benchmark");
+        journal = new TransactionJournal(true, directory.resolve("transactions.journal").toString(), 64 * 1024 * 1024);
+        transactionService = Fixtures.transactionService(Fixtures.accounts(ids), journal);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        journal.close();
+        Files.deleteIfExists(directory.resolve("transactions.journal"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void durableTransfer() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = random.nextInt(ids.length);
+        int target = (source + 1 + random.nextInt(ids.length - 1)) % ids.length;
+        transactionService.transfer(new TransactionDto(ids[source], ids[target], BigDecimal.ONE, "GBP"));
+    }
+}
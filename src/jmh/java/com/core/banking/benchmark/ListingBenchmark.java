@@ -0,0 +1,64 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.dto.TransactionFilter;
+import com.core.banking.service.TransactionService;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListingBenchmark {
+
+    @Param("100000")
+    int transactions;
+
+    TransactionService transactionService;
+    UUID account;
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Setup
+    public void setUp() throws Exception {
+        UUID[] ids = Fixtures.ids(100);
+        transactionService = Fixtures.transactionService(Fixtures.accounts(ids), Fixtures.noJournal());
+        for (int i = 0; i < transactions; i++) {
+            transactionService.transfer(new TransactionDto(ids[i % ids.length], ids[(i + 1) % ids.length], BigDecimal.ONE, "GBP"));
+        }
+        account = ids[0];
+    }
+
+    @Benchmark
+    public void findAll() throws Exception {
+        objectMapper.writeValue(Fixtures.DISCARD, transactionService.findAll());
+    }
+
+    @Benchmark
+    public void firstPage() throws Exception {
+        objectMapper.writeValue(Fixtures.DISCARD, transactionService.findPage(TransactionFilter.ALL, null, 100));
+    }
+
+    @Benchmark
+    public void accountPage() throws Exception {
+        objectMapper.writeValue(Fixtures.DISCARD, transactionService.findPage(new TransactionFilter(account, null, null, null), null, 100));
+    }
+}
@@ -0,0 +1,141 @@
+package com.core.banking.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.core.banking.BankingApplication;
+import com.core.banking.model.Account;
+import com.core.banking.service.AccountStore;
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class NoisyNeighborBenchmark {
+
+    @Param({"true", "false"})
+    boolean limited;
+
+    @Param("300")
+    int floodRate;
+
+    @Param("512")
+    int flood;
+
+    @Param("1000")
+    int accounts;
+
+    ConfigurableApplicationContext context;
+    ExecutorService executor;
+    ScheduledExecutorService scheduler;
+    Semaphore outstanding;
+    HttpClient client;
+    URI uri;
+    UUID[] ids;
+    LongAdder floodAccepted = new LongAdder();
+    LongAdder floodRejected = new LongAdder();
+    LongAdder floodDropped = new LongAdder();
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BankingApplication.class)
+                .properties("server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "server.tomcat.threads.max=16",
+                        "server.tomcat.max-connections=" + flood * 2,
+                        "server.tomcat.accept-count=" + flood,
+                        "banking.limits.client.rate=" + (limited ? 100 : 0),
+                        "banking.limits.client.burst=50",
+                        "banking.limits.trusted-proxies=127.0.0.1,0:0:0:0:0:0:0:1",
+                        "banking.limits.max-in-flight=" + (limited ? 64 : 0))
+                .run();
+        ids = Fixtures.ids(accounts);
+        AccountStore accountStore = context.getBean(AccountStore.class);
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        for (UUID id : ids) {
+            accountStore.put(new Account(id, Fixtures.OPENING_BALANCE, "GBP", createdAt));
+        }
+        executor = Executors.newFixedThreadPool(4);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build();
+        uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/transactions");
+        outstanding = new Semaphore(flood);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.scheduleAtFixedRate(this::floodOnce, 0, TimeUnit.SECONDS.toMicros(1) / floodRate, TimeUnit.MICROSECONDS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdownNow();
+        System.out.printf("%nlimited=%s: noisy client accepted %d, rejected %d, dropped at %d outstanding %d%n", limited, floodAccepted.sum(), floodRejected.sum(), flood, floodDropped.sum());
+        context.close();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int normalClientTransfer() throws Exception {
+        int status = client.send(request("client-" + Thread.currentThread().getId()), HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) {
+            throw new IllegalStateException("normal client transfer failed: " + status);
+        }
+        return status;
+    }
+
+    private void floodOnce() {
+        if (!outstanding.tryAcquire()) {
+            floodDropped.increment();
+            return;
+        }
+        client.sendAsync(request("noisy"), HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            if (response != null && response.statusCode() == 200) {
+                floodAccepted.increment();
+            } else {
+                floodRejected.increment();
+            }
+            outstanding.release();
+        });
+    }
+
+    private HttpRequest request(String clientId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = random.nextInt(ids.length);
+        int target = (source + 1 + random.nextInt(ids.length - 1)) % ids.length;
+        String body = "{\"sourceAccountId\":\"" + ids[source] + "\",\"targetAccountId\":\"" + ids[target] + "\",\"amount\":1,\"currency\":\"GBP\"}";
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .header("X-Client-Id", clientId)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.dto.ReconciliationReport;
+import com.core.banking.model.Account;
+import com.core.banking.model.Currencies;
+import com.core.banking.model.Transaction;
+import com.core.banking.service.AccountLocks;
+import com.core.banking.service.AccountService;
+import com.core.banking.service.BalanceReconciler;
+import com.core.banking.service.BalanceSnapshotter;
+import com.core.banking.service.CurrencyConversionService;
+import com.core.banking.service.IdempotencyCache;
+import com.core.banking.service.OffHeapAccountStore;
+import com.core.banking.service.TransactionArchive;
+import com.core.banking.service.TransactionLedger;
+import com.core.banking.service.TransactionService;
+import com.core.banking.service.TransferEventLog;
+import com.core.banking.service.TransferMetrics;
+import com.core.banking.service.TransferSequencer;
+import com.core.banking.service.TransferShards;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+@State(Scope.Benchmark)
+public class ReconciliationBenchmark {
+
+    static final Instant START = Instant.parse("2021-06-01T00:00:00Z");
+    static final int BATCH = 1_000_000;
+
+    @Param("10000000")
+    int transactions;
+
+    @Param("1000000")
+    int accounts;
+
+    Path directory;
+    BalanceReconciler reconciler;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("reconciliation-benchmark");
+        OffHeapAccountStore store = new OffHeapAccountStore(accounts);
+        UUID[] ids = new UUID[accounts];
+        long[] balances = new long[accounts];
+        for (int i = 0; i < accounts; i++) {
+            ids[i] = Fixtures.id(i);
+            balances[i] = 100_000_000L;
+        }
+        long span = 60_000L * 500;
+        TransactionLedger ledger = null;
+        for (int i = 0; i < transactions; i++) {
+            if (i % BATCH == 0) {
+                if (ledger != null) {
+                    ledger.compact();
+                }
+                ledger = new TransactionLedger(new ConcurrentHashMap<>(), new TransactionArchive(true, directory.toString(), 60_000, 1, 4));
+            }
+            int source = i % accounts;
+            int target = (int) ((i * 7L + 1) % accounts);
+            long amount = 100L * (1 + i % 5);
+            Transaction transaction = new Transaction(Fixtures.id(accounts + i), ids[source], ids[target], BigDecimal.valueOf(amount, 2), "GBP",
+                    Timestamp.from(START.plusMillis(span * i / transactions)));
+            transaction.postDebit(amount, 0);
+            transaction.postCredit(amount, 0);
+            transaction.setStatus(Transaction.Status.SUCCESS);
+            ledger.add(transaction);
+            balances[source] -= amount;
+            balances[target] += amount;
+        }
+        ledger.compact();
+        Timestamp createdAt = Timestamp.from(START);
+        for (int i = 0; i < accounts; i++) {
+            store.put(new Account(ids[i], balances[i], 100_000_000L, Currencies.codeOf("GBP"), createdAt));
+        }
+        AccountService accountService = new AccountService(store);
+        CurrencyConversionService currencyConversionService = new CurrencyConversionService("", RoundingMode.HALF_EVEN);
+        TransactionService transactionService = new TransactionService(ledger, accountService, currencyConversionService, new AccountLocks(1024), Fixtures.noJournal(), new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 16), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+        reconciler = new BalanceReconciler(transactionService, ledger, accountService, currencyConversionService, 0);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        reconciler.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public ReconciliationReport reconcile() {
+        ReconciliationReport report = reconciler.reconcile();
+        System.out.printf("%n%s, %d transactions/s%n", report, report.getTransactions() * 1000 / Math.max(1, report.getElapsedMillis()));
+        return report;
+    }
+}
@@ -0,0 +1,92 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.model.Account;
+import com.core.banking.service.TransactionService;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RejectionBenchmark {
+
+    UUID[] ids;
+    TransactionService transactionService;
+    TransactionDto accepted;
+    TransactionDto invalidAmount;
+    TransactionDto invalidCurrency;
+    TransactionDto unknownAccount;
+    TransactionDto sameAccount;
+    TransactionDto insufficientBalance;
+
+    @Setup
+    public void setUp() throws Exception {
+        ids = Fixtures.ids(3);
+        Map<UUID, Account> accounts = Fixtures.accounts(ids);
+        transactionService = Fixtures.transactionService(accounts, Fixtures.noJournal());
+        accepted = new TransactionDto(ids[0], ids[1], new BigDecimal("0.01"), "GBP");
+        invalidAmount = new TransactionDto(ids[0], ids[1], new BigDecimal("-10.50"), "GBP");
+        invalidCurrency = new TransactionDto(ids[0], ids[1], BigDecimal.TEN, "XXQ");
+        unknownAccount = new TransactionDto(UUID.randomUUID(), ids[1], BigDecimal.TEN, "GBP");
+        sameAccount = new TransactionDto(ids[0], ids[0], BigDecimal.TEN, "GBP");
+        insufficientBalance = new TransactionDto(ids[2], ids[1], Fixtures.OPENING_BALANCE.add(BigDecimal.ONE), "GBP");
+    }
+
+    @Benchmark
+    public Object accepted() throws Exception {
+        transactionService.transfer(accepted);
+        return accepted;
+    }
+
+    @Benchmark
+    public Object invalidAmount() {
+        return attempt(invalidAmount);
+    }
+
+    @Benchmark
+    public Object invalidCurrency() {
+        return attempt(invalidCurrency);
+    }
+
+    @Benchmark
+    public Object unknownAccount() {
+        return attempt(unknownAccount);
+    }
+
+    @Benchmark
+    public Object sameAccount() {
+        return attempt(sameAccount);
+    }
+
+    @Benchmark
+    public Object insufficientBalance() {
+        return attempt(insufficientBalance);
+    }
+
+    private Object attempt(TransactionDto dto) {
+        try {
+            transactionService.transfer(dto);
+            return dto;
+        } catch (Exception e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.service.TransactionService;
+import com.core.banking.service.TransferSequencer;
+import com.core.banking.service.TransferShards;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SequencerBenchmark {
+
+    @Param({TransferShards.LOCKING, TransferShards.SEQUENCER})
+    String mode;
+
+    @Param({"BUSY_SPIN", "YIELD", "PARK"})
+    TransferSequencer.WaitStrategy waitStrategy;
+
+    @Param("4")
+    int hotAccounts;
+
+    UUID[] ids;
+    TransferShards transferShards;
+    TransactionService transactionService;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        ids = Fixtures.ids(hotAccounts);
+        transferShards = new TransferShards(mode, 1, 1024, waitStrategy);
+        transactionService = Fixtures.transactionService(Fixtures.accounts(ids), Fixtures.noJournal(), new SimpleMeterRegistry(), transferShards);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        transferShards.close();
+    }
+
+    @Benchmark
+    public void hotAccounts() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = random.nextInt(ids.length);
+        int target = (source + 1 + random.nextInt(ids.length - 1)) % ids.length;
+        transactionService.transfer(new TransactionDto(ids[source], ids[target], BigDecimal.ONE, "GBP"));
+    }
+}
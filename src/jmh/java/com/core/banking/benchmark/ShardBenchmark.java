@@ -0,0 +1,91 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.service.TransactionService;
+import com.core.banking.service.TransferSequencer;
+import com.core.banking.service.TransferShards;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class ShardBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    int shards;
+
+    @Param({"0.0", "0.1", "0.5"})
+    double crossShardRatio;
+
+    @Param("BUSY_SPIN")
+    TransferSequencer.WaitStrategy waitStrategy;
+
+    UUID[][] accountsByShard;
+    TransferShards transferShards;
+    TransactionService transactionService;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        UUID[] ids = Fixtures.ids(10_000);
+        transferShards = new TransferShards(TransferShards.SHARDED, shards, 1024, waitStrategy);
+        transactionService = Fixtures.transactionService(Fixtures.accounts(ids), Fixtures.noJournal(), new SimpleMeterRegistry(), transferShards);
+
+        List<List<UUID>> buckets = new ArrayList<>();
+        for (int i = 0; i < shards; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (UUID id : ids) {
+            buckets.get(transferShards.shardOf(id)).add(id);
+        }
+        accountsByShard = buckets.stream().map(bucket -> bucket.toArray(new UUID[0])).toArray(UUID[][]::new);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        transferShards.close();
+    }
+
+    @Benchmark
+    public void transfer() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int sourceShard = random.nextInt(shards);
+        int targetShard = shards > 1 && random.nextDouble() < crossShardRatio
+                ? (sourceShard + 1 + random.nextInt(shards - 1)) % shards
+                : sourceShard;
+        UUID[] sources = accountsByShard[sourceShard];
+        UUID[] targets = accountsByShard[targetShard];
+        UUID source = sources[random.nextInt(sources.length)];
+        UUID target = targets[random.nextInt(targets.length)];
+        if (source.equals(target)) {
+            return;
+        }
+        transactionService.transfer(new TransactionDto(source, target, BigDecimal.ONE, "GBP"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.model.Account;
+import com.core.banking.service.AccountLocks;
+import com.core.banking.service.AccountService;
+import com.core.banking.service.BalanceSnapshotter;
+import com.core.banking.service.CurrencyConversionService;
+import com.core.banking.service.IdempotencyCache;
+import com.core.banking.service.OffHeapAccountStore;
+import com.core.banking.service.TransactionArchive;
+import com.core.banking.service.TransactionJournal;
+import com.core.banking.service.TransactionLedger;
+import com.core.banking.service.TransactionService;
+import com.core.banking.service.TransferEventLog;
+import com.core.banking.service.TransferMetrics;
+import com.core.banking.service.TransferSequencer;
+import com.core.banking.service.TransferShards;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+@State(Scope.Benchmark)
+public class SnapshotBenchmark {
+
+    @Param("10000000")
+    int accounts;
+
+    Path directory;
+    TransactionJournal journal;
+    AccountService accountService;
+    BalanceSnapshotter snapshotter;
+
+    @Setup
+    public void setUp() throws Exception {
+        OffHeapAccountStore accountStore = new OffHeapAccountStore(accounts);
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        for (int i = 0; i < accounts; i++) {
+            accountStore.put(new Account(Fixtures.id(i), Fixtures.OPENING_BALANCE, "GBP", createdAt));
+        }
+        accountService = new AccountService(accountStore);
+        directory = Files.createTempDirectory("snapshot-benchmark");
+        journal = new TransactionJournal(true, directory.resolve("transactions.journal").toString(), 64 * 1024 * 1024);
+        snapshotter = new BalanceSnapshotter(true, directory.resolve("snapshots").toString(), 1);
+        TransactionLedger ledger = new TransactionLedger(new ConcurrentHashMap<>(), new TransactionArchive(true, directory.resolve("archive").toString(), 1, 1, 1));
+        TransactionService transactionService = new TransactionService(ledger, accountService, new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(1024), journal, new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 16), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), snapshotter, new TransferEventLog(1024, 1, 1024));
+        transactionService.recover();
+        transactionService.transfer(new TransactionDto(Fixtures.id(0), Fixtures.id(1), BigDecimal.ONE, "GBP"));
+        Thread.sleep(2);
+        ledger.compact();
+        snapshotter.snapshot();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long restore() {
+        return snapshotter.restore(accountService, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,57 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.core.banking.model.Transaction;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionBenchmark {
+
+    final UUID id = UUID.randomUUID();
+    final UUID source = UUID.randomUUID();
+    final UUID target = UUID.randomUUID();
+    final Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+    final BigDecimal amount = new BigDecimal("10.50");
+    final BigDecimal negativeAmount = new BigDecimal("-10.50");
+
+    @Benchmark
+    public Object valid() throws Exception {
+        return new Transaction(id, source, target, amount, "GBP", createdAt);
+    }
+
+    @Benchmark
+    public Object invalidAmount() {
+        try {
+            return new Transaction(id, source, target, negativeAmount, "GBP", createdAt);
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object invalidCurrency() {
+        try {
+            return new Transaction(id, source, target, amount, "XX", createdAt);
+        } catch (Exception e) {
+            return e;
+        }
+    }
+}
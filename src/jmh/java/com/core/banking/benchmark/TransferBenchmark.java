@@ -0,0 +1,94 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.service.TransactionService;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class TransferBenchmark {
+
+    static final BigDecimal AMOUNT = BigDecimal.ONE;
+
+    @Param("10000")
+    int accounts;
+
+    @Param({"true", "false"})
+    boolean metrics;
+
+    UUID[] ids;
+    TransactionService transactionService;
+    AtomicInteger pairs;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        ids = Fixtures.ids(accounts);
+        transactionService = Fixtures.transactionService(Fixtures.accounts(ids), Fixtures.noJournal(), Fixtures.meterRegistry(metrics));
+        pairs = new AtomicInteger();
+    }
+
+    @State(Scope.Thread)
+    public static class Pair {
+
+        TransactionDto forward;
+        TransactionDto backward;
+        boolean reverse;
+
+        @Setup(Level.Iteration)
+        public void setUp(TransferBenchmark benchmark) {
+            int pair = benchmark.pairs.getAndIncrement() * 2;
+            UUID source = benchmark.ids[pair % benchmark.ids.length];
+            UUID target = benchmark.ids[(pair + 1) % benchmark.ids.length];
+            forward = new TransactionDto(source, target, AMOUNT, "GBP");
+            backward = new TransactionDto(target, source, AMOUNT, "GBP");
+        }
+
+        TransactionDto next() {
+            reverse = !reverse;
+            return reverse ? backward : forward;
+        }
+    }
+
+    @Benchmark
+    public void uncontended(Pair pair) throws Exception {
+        transactionService.transfer(pair.next());
+    }
+
+    @Benchmark
+    public void hotPair() throws Exception {
+        boolean reverse = ThreadLocalRandom.current().nextBoolean();
+        transactionService.transfer(new TransactionDto(ids[reverse ? 1 : 0], ids[reverse ? 0 : 1], AMOUNT, "GBP"));
+    }
+
+    @Benchmark
+    public void randomPairs() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = random.nextInt(ids.length);
+        int target = (source + 1 + random.nextInt(ids.length - 1)) % ids.length;
+        transactionService.transfer(new TransactionDto(ids[source], ids[target], AMOUNT, "GBP"));
+    }
+}
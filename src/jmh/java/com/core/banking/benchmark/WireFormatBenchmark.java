@@ -0,0 +1,106 @@
+package com.core.banking.benchmark;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+
+import com.core.banking.codec.BinaryCodec;
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.dto.TransactionPage;
+import com.core.banking.model.Transaction;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({"json", "binary"})
+    String format;
+
+    ObjectMapper objectMapper;
+    TransactionDto dto;
+    byte[] encodedTransfer;
+    Map.Entry<String, String> response;
+    TransactionPage page;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new ParameterNamesModule(JsonCreator.Mode.DEFAULT)).build();
+        dto = new TransactionDto(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("1234.56"), "GBP");
+        response = new AbstractMap.SimpleImmutableEntry<>("message", "transaction succeeded");
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Transaction transaction = new Transaction(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("1234.56"), "GBP", Timestamp.from(Instant.now()));
+            transaction.setStatus(Transaction.Status.SUCCESS);
+            transactions.add(transaction);
+        }
+        page = new TransactionPage(transactions, "MTcwMDAwMDAwMDAwMDAwMDAwMA");
+        encodedTransfer = encodeTransfer();
+        System.out.printf("%n%s bytes: transfer %d, response %d, page of 100 %d%n", format, encodedTransfer.length, encodeResponse().length, encodePage().length);
+    }
+
+    @Benchmark
+    public TransactionDto decodeTransfer() throws Exception {
+        if ("json".equals(format)) {
+            return objectMapper.readValue(encodedTransfer, TransactionDto.class);
+        }
+        return BinaryCodec.decodeTransfer(ByteBuffer.wrap(encodedTransfer));
+    }
+
+    @Benchmark
+    public byte[] encodeTransfer() throws Exception {
+        if ("json".equals(format)) {
+            return objectMapper.writeValueAsBytes(dto);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryCodec.TRANSFER_SIZE);
+        BinaryCodec.encode(dto, buffer);
+        return buffer.array();
+    }
+
+    @Benchmark
+    public byte[] encodeResponse() throws Exception {
+        if ("json".equals(format)) {
+            return objectMapper.writeValueAsBytes(response);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryCodec.sizeOf(response));
+        BinaryCodec.encode(response, buffer);
+        return buffer.array();
+    }
+
+    @Benchmark
+    public byte[] encodePage() throws Exception {
+        if ("json".equals(format)) {
+            return objectMapper.writeValueAsBytes(page);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryCodec.sizeOf(page));
+        BinaryCodec.encode(page, buffer);
+        return buffer.array();
+    }
+}
@@ -3,21 +3,26 @@ package com.core.banking;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.util.AbstractMap;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import com.core.banking.model.Account;
 import com.core.banking.model.Transaction;
+import com.core.banking.service.AccountStore;
+import com.core.banking.service.HeapAccountStore;
+import com.core.banking.service.OffHeapAccountStore;
 
 @SpringBootApplication
+@EnableScheduling
 public class BankingApplication {
 
     public static final UUID SOURCE_ACCOUNT_ID = UUID.fromString("2a91ddbe-8d9a-4029-8192-400ac0ca066d");
@@ -33,11 +38,23 @@ public class BankingApplication {
                 new Account(SOURCE_ACCOUNT_ID, BigDecimal.valueOf(100), "GBP", Timestamp.from(Instant.now())),
                 new Account(TARGET_ACCOUNT_ID, BigDecimal.valueOf(200), "GBP", Timestamp.from(Instant.now())))
                 .peek(System.out::println)
-                .collect(Collectors.toMap(Account::getId, account -> account));
+                .collect(Collectors.toMap(Account::getId, account -> account, (a, b) -> a, ConcurrentHashMap::new));
+    }
+
+    @Bean
+    public AccountStore getAccountStore(Map<UUID, Account> accounts,
+                                        @Value("${banking.accounts.store:heap}") String store,
+                                        @Value("${banking.accounts.capacity:1000000}") long capacity) {
+        if (!"off-heap".equals(store)) {
+            return new HeapAccountStore(accounts);
+        }
+        AccountStore accountStore = new OffHeapAccountStore(Math.max(capacity, accounts.size()));
+        accounts.values().forEach(accountStore::put);
+        return accountStore;
     }
 
     @Bean
     public Map<UUID, Transaction> getTransactions() {
-        return new HashMap<>();
+        return new ConcurrentHashMap<>();
     }
 }
@@ -0,0 +1,50 @@
+package com.core.banking;
+
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.core.banking.codec.BinaryMessageConverter;
+import com.core.banking.service.TransactionJournal;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    private final TransactionJournal transactionJournal;
+
+    @Autowired
+    public WebConfiguration(TransactionJournal transactionJournal) {
+        this.transactionJournal = transactionJournal;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new BinaryMessageConverter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+                if (!transactionJournal.isFailed()) {
+                    return true;
+                }
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                response.getWriter().write("{\"error\":\"journal flush failed\"}");
+                return false;
+            }
+        }).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,173 @@
+package com.core.banking.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.dto.TransactionPage;
+import com.core.banking.dto.TransferResult;
+import com.core.banking.exception.InvalidAmountException;
+import com.core.banking.exception.InvalidCurrencyException;
+import com.core.banking.model.Currencies;
+import com.core.banking.model.Money;
+import com.core.banking.model.Transaction;
+import com.core.banking.model.TransactionCursor;
+
+public final class BinaryCodec {
+
+    public static final int TRANSFER_SIZE = 42;
+    public static final int TRANSACTION_SIZE = 67;
+
+    private static final Transaction.Status[] STATUSES = Transaction.Status.values();
+
+    private BinaryCodec() {
+    }
+
+    public static void encode(TransactionDto dto, ByteBuffer buffer) {
+        int currency = Currencies.codeOf(dto.getCurrency());
+        if (currency == Currencies.UNKNOWN) {
+            throw new IllegalArgumentException(String.format("Transaction currency (%s) is invalid", dto.getCurrency()));
+        }
+        putUuid(buffer, dto.getSourceAccountId());
+        putUuid(buffer, dto.getTargetAccountId());
+        buffer.putLong(Money.toMinorUnits(dto.getAmount(), currency));
+        buffer.putShort((short) Currencies.numericCode(currency));
+    }
+
+    public static TransactionDto decodeTransfer(ByteBuffer buffer) {
+        UUID sourceAccountId = getUuid(buffer);
+        UUID targetAccountId = getUuid(buffer);
+        long amount = buffer.getLong();
+        int numericCode = buffer.getShort();
+        int currency = Currencies.codeOfNumeric(numericCode);
+        if (currency == Currencies.UNKNOWN) {
+            throw new IllegalArgumentException(String.format("Transaction currency (%s) is invalid", numericCode));
+        }
+        return new TransactionDto(sourceAccountId, targetAccountId, Money.toDecimal(amount, currency), Currencies.isoCode(currency));
+    }
+
+    public static void encode(Transaction transaction, ByteBuffer buffer) {
+        putUuid(buffer, transaction.getId());
+        putUuid(buffer, transaction.getSourceAccountId());
+        putUuid(buffer, transaction.getTargetAccountId());
+        buffer.putLong(transaction.getAmountMinorUnits());
+        buffer.putShort((short) Currencies.numericCode(transaction.getCurrencyCode()));
+        buffer.put((byte) transaction.getStatus().ordinal());
+        buffer.putLong(TransactionCursor.toEpochNanos(transaction.getCreatedAt().toInstant()));
+    }
+
+    public static Transaction decodeTransaction(ByteBuffer buffer) {
+        UUID id = getUuid(buffer);
+        UUID sourceAccountId = getUuid(buffer);
+        UUID targetAccountId = getUuid(buffer);
+        long amount = buffer.getLong();
+        int currency = Currencies.codeOfNumeric(buffer.getShort());
+        byte status = buffer.get();
+        long createdAt = buffer.getLong();
+        try {
+            Transaction transaction = new Transaction(id, sourceAccountId, targetAccountId, Money.toDecimal(amount, currency), Currencies.isoCode(currency),
+                    Timestamp.from(Instant.ofEpochSecond(Math.floorDiv(createdAt, 1_000_000_000L), Math.floorMod(createdAt, 1_000_000_000L))));
+            transaction.setStatus(status < 0 ? Transaction.Status.FAIL : STATUSES[status]);
+            return transaction;
+        } catch (InvalidAmountException | InvalidCurrencyException e) {
+            throw new IllegalArgumentException("encoded transaction is invalid: " + id, e);
+        }
+    }
+
+    public static int sizeOf(TransferResult result) {
+        return 17 + sizeOf(result.getError());
+    }
+
+    public static void encode(TransferResult result, ByteBuffer buffer) {
+        putUuid(buffer, Objects.isNull(result.getTransactionId()) ? new UUID(0, 0) : result.getTransactionId());
+        buffer.put((byte) result.getStatus().ordinal());
+        putString(buffer, result.getError());
+    }
+
+    public static TransferResult decodeTransferResult(ByteBuffer buffer) {
+        UUID id = getUuid(buffer);
+        Transaction.Status status = STATUSES[buffer.get()];
+        String error = getString(buffer);
+        return new TransferResult(id.getMostSignificantBits() == 0 && id.getLeastSignificantBits() == 0 ? null : id, status, error);
+    }
+
+    public static int sizeOf(TransactionPage page) {
+        return 4 + page.getTransactions().size() * TRANSACTION_SIZE + sizeOf(page.getNextCursor());
+    }
+
+    public static void encode(TransactionPage page, ByteBuffer buffer) {
+        buffer.putInt(page.getTransactions().size());
+        for (Transaction transaction : page.getTransactions()) {
+            encode(transaction, buffer);
+        }
+        putString(buffer, page.getNextCursor());
+    }
+
+    public static TransactionPage decodeTransactionPage(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transactions.add(decodeTransaction(buffer));
+        }
+        return new TransactionPage(transactions, getString(buffer));
+    }
+
+    public static int sizeOf(Map.Entry<?, ?> entry) {
+        return sizeOf(String.valueOf(entry.getKey())) + sizeOf(Objects.toString(entry.getValue(), null));
+    }
+
+    public static void encode(Map.Entry<?, ?> entry, ByteBuffer buffer) {
+        putString(buffer, String.valueOf(entry.getKey()));
+        putString(buffer, Objects.toString(entry.getValue(), null));
+    }
+
+    public static Map.Entry<String, String> decodeEntry(ByteBuffer buffer) {
+        String key = getString(buffer);
+        return new AbstractMap.SimpleImmutableEntry<>(key, getString(buffer));
+    }
+
+    private static int sizeOf(String value) {
+        return 2 + (Objects.isNull(value) ? 0 : value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        if (Objects.isNull(value)) {
+            buffer.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,149 @@
+package com.core.banking.codec;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.dto.TransactionPage;
+import com.core.banking.dto.TransferResult;
+import com.core.banking.model.Transaction;
+
+public class BinaryMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String APPLICATION_BANKING_BINARY_VALUE = "application/x-banking-binary";
+    public static final MediaType APPLICATION_BANKING_BINARY = MediaType.parseMediaType(APPLICATION_BANKING_BINARY_VALUE);
+
+    public BinaryMessageConverter() {
+        super(APPLICATION_BANKING_BINARY);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return canRead(mediaType) && (type == TransactionDto.class || isListOf(type, TransactionDto.class));
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType) || clazz == null) {
+            return false;
+        }
+        if (List.class.isAssignableFrom(clazz)) {
+            return isListOf(type, TransferResult.class) || isListOf(type, TransactionDto.class) || isListOf(type, Transaction.class);
+        }
+        return Map.Entry.class.isAssignableFrom(clazz)
+                || clazz == TransactionDto.class
+                || clazz == Transaction.class
+                || clazz == TransferResult.class
+                || clazz == TransactionPage.class;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(StreamUtils.copyToByteArray(inputMessage.getBody()));
+        try {
+            if (type == TransactionDto.class) {
+                return BinaryCodec.decodeTransfer(buffer);
+            }
+            int count = buffer.getInt();
+            if (count < 0 || (long) count * BinaryCodec.TRANSFER_SIZE > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            List<TransactionDto> dtos = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                dtos.add(BinaryCodec.decodeTransfer(buffer));
+            }
+            return dtos;
+        } catch (BufferUnderflowException e) {
+            throw new HttpMessageNotReadableException("binary request body is truncated", e, inputMessage);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException(e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(sizeOf(value));
+        encode(value, buffer);
+        outputMessage.getHeaders().setContentLength(buffer.capacity());
+        outputMessage.getBody().write(buffer.array());
+    }
+
+    private int sizeOf(Object value) {
+        if (value instanceof List) {
+            int size = 4;
+            for (Object element : (List<?>) value) {
+                size += sizeOf(element);
+            }
+            return size;
+        }
+        if (value instanceof TransactionDto) {
+            return BinaryCodec.TRANSFER_SIZE;
+        }
+        if (value instanceof Transaction) {
+            return BinaryCodec.TRANSACTION_SIZE;
+        }
+        if (value instanceof TransferResult) {
+            return BinaryCodec.sizeOf((TransferResult) value);
+        }
+        if (value instanceof TransactionPage) {
+            return BinaryCodec.sizeOf((TransactionPage) value);
+        }
+        if (value instanceof Map.Entry) {
+            return BinaryCodec.sizeOf((Map.Entry<?, ?>) value);
+        }
+        throw new HttpMessageNotWritableException("binary encoding is unsupported: " + value.getClass().getName());
+    }
+
+    private void encode(Object value, ByteBuffer buffer) {
+        if (value instanceof List) {
+            buffer.putInt(((List<?>) value).size());
+            for (Object element : (List<?>) value) {
+                encode(element, buffer);
+            }
+        } else if (value instanceof TransactionDto) {
+            BinaryCodec.encode((TransactionDto) value, buffer);
+        } else if (value instanceof Transaction) {
+            BinaryCodec.encode((Transaction) value, buffer);
+        } else if (value instanceof TransferResult) {
+            BinaryCodec.encode((TransferResult) value, buffer);
+        } else if (value instanceof TransactionPage) {
+            BinaryCodec.encode((TransactionPage) value, buffer);
+        } else {
+            BinaryCodec.encode((Map.Entry<?, ?>) value, buffer);
+        }
+    }
+
+    private static boolean isListOf(Type type, Class<?> elementType) {
+        if (!(type instanceof ParameterizedType)) {
+            return false;
+        }
+        ParameterizedType parameterized = (ParameterizedType) type;
+        return parameterized.getRawType() instanceof Class
+                && List.class.isAssignableFrom((Class<?>) parameterized.getRawType())
+                && parameterized.getActualTypeArguments()[0] == elementType;
+    }
+}
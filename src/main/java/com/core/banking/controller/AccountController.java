@@ -0,0 +1,108 @@
+package com.core.banking.controller;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.core.banking.dto.AccountBalance;
+import com.core.banking.dto.AccountDto;
+import com.core.banking.dto.AccountImportResult;
+import com.core.banking.dto.TransactionFilter;
+import com.core.banking.dto.TransactionPage;
+import com.core.banking.exception.AccountAlreadyExistsException;
+import com.core.banking.exception.AccountNotFoundException;
+import com.core.banking.exception.InvalidAmountException;
+import com.core.banking.exception.InvalidCurrencyException;
+import com.core.banking.exception.InvalidCursorException;
+import com.core.banking.model.Account;
+import com.core.banking.model.Transaction;
+import com.core.banking.service.AccountImporter;
+import com.core.banking.service.AccountService;
+import com.core.banking.service.TransactionService;
+
+@RestController
+@RequestMapping("/api/accounts")
+public class AccountController {
+
+    private final AccountService accountService;
+    private final TransactionService transactionService;
+    private final AccountImporter accountImporter;
+
+    @Autowired
+    public AccountController(AccountService accountService, TransactionService transactionService, AccountImporter accountImporter) {
+        this.accountService = accountService;
+        this.transactionService = transactionService;
+        this.accountImporter = accountImporter;
+    }
+
+    @PostMapping
+    public ResponseEntity<Account> open(@RequestBody AccountDto dto) throws InvalidAmountException, InvalidCurrencyException, AccountAlreadyExistsException {
+        return ResponseEntity.status(HttpStatus.CREATED).body(accountService.open(dto));
+    }
+
+    @PostMapping("/import")
+    public AccountImportResult importAccounts(@RequestParam String file) throws IOException {
+        return accountImporter.importFromDirectory(file);
+    }
+
+    @GetMapping("/{id}")
+    public Account findById(@PathVariable UUID id) throws AccountNotFoundException {
+        return accountService.findById(id).orElseThrow(() -> new AccountNotFoundException("account not found"));
+    }
+
+    @GetMapping("/{id}/balance")
+    public AccountBalance findBalance(@PathVariable UUID id) throws AccountNotFoundException {
+        return accountService.findBalance(id).orElseThrow(() -> new AccountNotFoundException("account not found"));
+    }
+
+    @GetMapping("/{id}/transactions")
+    public TransactionPage findTransactions(@PathVariable UUID id,
+                                            @RequestParam(required = false) Transaction.Status status,
+                                            @RequestParam(required = false) Instant from,
+                                            @RequestParam(required = false) Instant to,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "100") int limit) throws AccountNotFoundException, InvalidCursorException {
+        accountService.findById(id).orElseThrow(() -> new AccountNotFoundException("account not found"));
+        return transactionService.findPage(new TransactionFilter(id, status, from, to), cursor, Math.max(1, Math.min(limit, TransactionController.MAX_PAGE_SIZE)));
+    }
+
+    @ExceptionHandler(value = {InvalidCursorException.class, InvalidAmountException.class, InvalidCurrencyException.class, HttpMessageNotReadableException.class, NullPointerException.class, IllegalArgumentException.class})
+    public ResponseEntity<Object> handleClientException(Exception exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new AbstractMap.SimpleEntry<>("error", exception.getMessage()));
+    }
+
+    @ExceptionHandler(value = AccountNotFoundException.class)
+    public ResponseEntity<Object> handleNotFoundException(AccountNotFoundException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new AbstractMap.SimpleEntry<>("error", exception.getMessage()));
+    }
+
+    @ExceptionHandler(value = NoSuchFileException.class)
+    public ResponseEntity<Object> handleMissingFileException(NoSuchFileException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new AbstractMap.SimpleEntry<>("error", "account import file not found"));
+    }
+
+    @ExceptionHandler(value = AccountAlreadyExistsException.class)
+    public ResponseEntity<Object> handleConflictException(AccountAlreadyExistsException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new AbstractMap.SimpleEntry<>("error", exception.getMessage()));
+    }
+
+    @ExceptionHandler(value = Exception.class)
+    public ResponseEntity<Object> handleServerException(Exception exception) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new AbstractMap.SimpleEntry<>("error", exception.getMessage()));
+    }
+}
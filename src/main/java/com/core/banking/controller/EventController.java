@@ -0,0 +1,55 @@
+package com.core.banking.controller;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import com.core.banking.service.TransferEventLog;
+
+@RestController
+@RequestMapping("/api/events")
+public class EventController {
+
+    private final TransferEventLog transferEventLog;
+
+    @Autowired
+    public EventController(TransferEventLog transferEventLog) {
+        this.transferEventLog = transferEventLog;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                         @RequestParam(required = false) String after) throws IOException {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(0L);
+        emitter.send((": " + transferEventLog.position() + "\n\n").getBytes(StandardCharsets.UTF_8), MediaType.TEXT_EVENT_STREAM);
+        TransferEventLog.Subscription subscription = transferEventLog.subscribe(Objects.nonNull(lastEventId) ? lastEventId : after, new TransferEventLog.Sink() {
+            @Override
+            public void send(byte[] frame) throws IOException {
+                emitter.send(frame, MediaType.TEXT_EVENT_STREAM);
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(() -> transferEventLog.unsubscribe(subscription));
+        emitter.onTimeout(() -> transferEventLog.unsubscribe(subscription));
+        emitter.onError(failure -> transferEventLog.unsubscribe(subscription));
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .cacheControl(CacheControl.noCache())
+                .body(emitter);
+    }
+}
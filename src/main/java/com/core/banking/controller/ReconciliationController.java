@@ -0,0 +1,36 @@
+package com.core.banking.controller;
+
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.core.banking.dto.ReconciliationReport;
+import com.core.banking.service.BalanceReconciler;
+
+@RestController
+@RequestMapping("/api/reconciliations")
+public class ReconciliationController {
+
+    private final BalanceReconciler balanceReconciler;
+
+    @Autowired
+    public ReconciliationController(BalanceReconciler balanceReconciler) {
+        this.balanceReconciler = balanceReconciler;
+    }
+
+    @PostMapping
+    public ReconciliationReport reconcile() {
+        return balanceReconciler.reconcile();
+    }
+
+    @GetMapping("/latest")
+    public ResponseEntity<ReconciliationReport> latest() {
+        ReconciliationReport report = balanceReconciler.getLastReport();
+        return Objects.isNull(report) ? ResponseEntity.noContent().build() : ResponseEntity.ok(report);
+    }
+}
@@ -1,61 +1,218 @@
 package com.core.banking.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.AbstractMap;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
+import com.core.banking.codec.BinaryMessageConverter;
 import com.core.banking.dto.TransactionDto;
+import com.core.banking.dto.TransactionFilter;
+import com.core.banking.dto.TransactionPage;
+import com.core.banking.dto.TransferResult;
 import com.core.banking.exception.AccountNotFoundException;
+import com.core.banking.exception.BatchTooLargeException;
+import com.core.banking.exception.IdempotencyKeyReusedException;
 import com.core.banking.exception.InsufficientBalanceException;
 import com.core.banking.exception.InvalidAmountException;
 import com.core.banking.exception.InvalidCurrencyException;
+import com.core.banking.exception.InvalidCursorException;
+import com.core.banking.exception.RateLimitedException;
 import com.core.banking.exception.SameAccountException;
+import com.core.banking.exception.TransactionNotFoundException;
 import com.core.banking.model.Transaction;
 import com.core.banking.service.TransactionService;
+import com.core.banking.service.TransferLimiter;
 
 @RestController
 @RequestMapping("/api/transactions")
 public class TransactionController {
 
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private static final Map.Entry<String, String> SUCCEEDED = new AbstractMap.SimpleImmutableEntry<>("message", "transaction succeeded");
+
     private final TransactionService transactionService;
+    private final TransferLimiter transferLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean async;
+    private final int maxBatch;
 
     @Autowired
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(TransactionService transactionService, TransferLimiter transferLimiter, ObjectMapper objectMapper,
+                                 @Value("${banking.api.async:true}") boolean async,
+                                 @Value("${banking.limits.max-batch:10000}") int maxBatch) {
         this.transactionService = transactionService;
+        this.transferLimiter = transferLimiter;
+        this.objectMapper = objectMapper;
+        this.async = async;
+        this.maxBatch = maxBatch;
     }
 
     @PostMapping
-    public Map.Entry<String, String> transfer(@RequestBody TransactionDto dto) throws InvalidAmountException, AccountNotFoundException, InsufficientBalanceException, InvalidCurrencyException, SameAccountException {
-        transactionService.transfer(dto);
-        return new AbstractMap.SimpleEntry<>("message", "transaction succeeded");
+    public CompletableFuture<Map.Entry<String, String>> transfer(@RequestBody TransactionDto dto,
+                                                                 @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                                 @RequestHeader(value = "X-Client-Id", required = false) String clientId,
+                                                                 HttpServletRequest request) throws InvalidAmountException, AccountNotFoundException, InsufficientBalanceException, InvalidCurrencyException, SameAccountException, IdempotencyKeyReusedException, RateLimitedException {
+        transferLimiter.acquire(transferLimiter.clientOf(clientId, request.getRemoteAddr()), dto.getSourceAccountId());
+        CompletableFuture<Void> result = null;
+        try {
+            result = submit(idempotencyKey, dto);
+        } finally {
+            if (Objects.isNull(result)) {
+                transferLimiter.release();
+            }
+        }
+        return result.whenComplete((ignored, failure) -> transferLimiter.release()).thenApply(ignored -> SUCCEEDED);
+    }
+
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, BinaryMessageConverter.APPLICATION_BANKING_BINARY_VALUE})
+    public List<TransferResult> transferBatch(@RequestBody List<TransactionDto> dtos,
+                                              @RequestParam(defaultValue = "false") boolean atomic,
+                                              @RequestHeader(value = "X-Client-Id", required = false) String clientId,
+                                              HttpServletRequest request) throws RateLimitedException, BatchTooLargeException {
+        return limited(transferLimiter.clientOf(clientId, request.getRemoteAddr()), dtos, atomic);
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public List<TransferResult> transferBatch(InputStream body,
+                                              @RequestParam(defaultValue = "false") boolean atomic,
+                                              @RequestHeader(value = "X-Client-Id", required = false) String clientId,
+                                              HttpServletRequest request) throws IOException, RateLimitedException, BatchTooLargeException {
+        String client = transferLimiter.clientOf(clientId, request.getRemoteAddr());
+        int admitted = transferLimiter.admit(client);
+        List<TransactionDto> dtos = new ArrayList<>();
+        try (MappingIterator<TransactionDto> iterator = objectMapper.readerFor(TransactionDto.class).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                if (dtos.size() == maxBatch) {
+                    throw tooLarge();
+                }
+                dtos.add(iterator.nextValue());
+            }
+        } finally {
+            transferLimiter.release(admitted);
+        }
+        return limited(client, dtos, atomic);
     }
 
     @GetMapping
-    public Collection<Transaction> findAll() {
-        return transactionService.findAll();
+    public TransactionPage findAll(@RequestParam(required = false) UUID accountId,
+                                   @RequestParam(required = false) Transaction.Status status,
+                                   @RequestParam(required = false) Instant from,
+                                   @RequestParam(required = false) Instant to,
+                                   @RequestParam(required = false) String cursor,
+                                   @RequestParam(defaultValue = "100") int limit) throws InvalidCursorException {
+        return transactionService.findPage(new TransactionFilter(accountId, status, from, to), cursor, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    @GetMapping("/{id}")
+    public Transaction findById(@PathVariable UUID id) throws TransactionNotFoundException {
+        return transactionService.findById(id);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream(@RequestParam(required = false) UUID accountId,
+                                                        @RequestParam(required = false) Transaction.Status status,
+                                                        @RequestParam(required = false) Instant from,
+                                                        @RequestParam(required = false) Instant to) {
+        TransactionFilter filter = new TransactionFilter(accountId, status, from, to);
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = outputStream -> transactionService.forEach(filter, transaction -> {
+            try {
+                writer.writeValue(outputStream, transaction);
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
-    @ExceptionHandler(value = {InvalidAmountException.class, InvalidCurrencyException.class, HttpMessageNotReadableException.class, NullPointerException.class, InsufficientBalanceException.class, SameAccountException.class})
+    private List<TransferResult> limited(String client, List<TransactionDto> dtos, boolean atomic) throws RateLimitedException, BatchTooLargeException {
+        if (dtos.size() > maxBatch) {
+            throw tooLarge();
+        }
+        int permits = transferLimiter.acquire(client, dtos.stream().map(TransactionDto::getSourceAccountId).collect(Collectors.toList()));
+        try {
+            return transactionService.transferBatch(dtos, atomic);
+        } finally {
+            transferLimiter.release(permits);
+        }
+    }
+
+    private BatchTooLargeException tooLarge() {
+        return new BatchTooLargeException("batch exceeds " + maxBatch + " transfers");
+    }
+
+    private CompletableFuture<Void> submit(String idempotencyKey, TransactionDto dto) throws InvalidAmountException, AccountNotFoundException, InsufficientBalanceException, InvalidCurrencyException, SameAccountException, IdempotencyKeyReusedException {
+        if (!async) {
+            transactionService.transfer(idempotencyKey, dto);
+            return CompletableFuture.completedFuture(null);
+        }
+        return transactionService.transferAsync(idempotencyKey, dto);
+    }
+
+    @ExceptionHandler(value = {InvalidAmountException.class, InvalidCurrencyException.class, HttpMessageNotReadableException.class, NullPointerException.class, InsufficientBalanceException.class, SameAccountException.class, InvalidCursorException.class, JsonProcessingException.class})
     public ResponseEntity<Object> handleClientException(Exception exception) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new AbstractMap.SimpleEntry<>("error", exception.getMessage()));
     }
 
-    @ExceptionHandler(value = AccountNotFoundException.class)
-    public ResponseEntity<Object> handleNotFoundException(AccountNotFoundException exception) {
+    @ExceptionHandler(value = RateLimitedException.class)
+    public ResponseEntity<Object> handleRateLimitedException(RateLimitedException exception) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(exception.getRetryAfterSeconds()))
+                .body(new AbstractMap.SimpleEntry<>("error", exception.getMessage()));
+    }
+
+    @ExceptionHandler(value = BatchTooLargeException.class)
+    public ResponseEntity<Object> handleBatchTooLargeException(BatchTooLargeException exception) {
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(new AbstractMap.SimpleEntry<>("error", exception.getMessage()));
+    }
+
+    @ExceptionHandler(value = {AccountNotFoundException.class, TransactionNotFoundException.class})
+    public ResponseEntity<Object> handleNotFoundException(Exception exception) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new AbstractMap.SimpleEntry<>("error", exception.getMessage()));
     }
 
+    @ExceptionHandler(value = IdempotencyKeyReusedException.class)
+    public ResponseEntity<Object> handleConflictException(IdempotencyKeyReusedException exception) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(new AbstractMap.SimpleEntry<>("error", exception.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<Object> handleServerException(Exception exception) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new AbstractMap.SimpleEntry<>("error", exception.getMessage()));
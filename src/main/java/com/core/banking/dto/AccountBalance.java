@@ -0,0 +1,38 @@
+package com.core.banking.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public final class AccountBalance {
+
+    private final UUID accountId;
+    private final BigDecimal balance;
+    private final String currency;
+
+    public AccountBalance(UUID accountId, BigDecimal balance, String currency) {
+        this.accountId = accountId;
+        this.balance = balance;
+        this.currency = currency;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    @Override
+    public String toString() {
+        return "AccountBalance{" +
+                "accountId=" + accountId +
+                ", balance=" + balance +
+                ", currency='" + currency + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,57 @@
+package com.core.banking.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class AccountDto implements Serializable {
+
+    private final UUID id;
+    private final BigDecimal balance;
+    private final String currency;
+
+    public AccountDto(UUID id, BigDecimal balance, String currency) {
+        this.id = id;
+        this.balance = Objects.requireNonNull(balance, "balance field is null or missing");
+        this.currency = Objects.requireNonNull(currency, "currency field is null or missing");
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        AccountDto that = (AccountDto) o;
+
+        return Objects.equals(id, that.id)
+                && balance.compareTo(that.balance) == 0
+                && Objects.equals(currency, that.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, balance.stripTrailingZeros(), currency);
+    }
+
+    @Override
+    public String toString() {
+        return "AccountDto{" +
+                "id=" + id +
+                ", balance=" + balance +
+                ", currency='" + currency + '\'' +
+                '}';
+    }
+}
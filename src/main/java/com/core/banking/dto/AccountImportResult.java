@@ -0,0 +1,46 @@
+package com.core.banking.dto;
+
+public final class AccountImportResult {
+
+    private final String file;
+    private final long imported;
+    private final long duplicates;
+    private final long elapsedMillis;
+
+    public AccountImportResult(String file, long imported, long duplicates, long elapsedMillis) {
+        this.file = file;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getAccountsPerSecond() {
+        return elapsedMillis == 0 ? imported * 1000 : imported * 1000 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "AccountImportResult{" +
+                "file='" + file + '\'' +
+                ", imported=" + imported +
+                ", duplicates=" + duplicates +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
@@ -0,0 +1,100 @@
+package com.core.banking.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+public final class ReconciliationReport {
+
+    private final long cut;
+    private final long accounts;
+    private final long transactions;
+    private final long discrepancyCount;
+    private final long pauseMicros;
+    private final long elapsedMillis;
+    private final List<Discrepancy> discrepancies;
+
+    public ReconciliationReport(long cut, long accounts, long transactions, long discrepancyCount, long pauseMicros, long elapsedMillis, List<Discrepancy> discrepancies) {
+        this.cut = cut;
+        this.accounts = accounts;
+        this.transactions = transactions;
+        this.discrepancyCount = discrepancyCount;
+        this.pauseMicros = pauseMicros;
+        this.elapsedMillis = elapsedMillis;
+        this.discrepancies = discrepancies;
+    }
+
+    public long getCut() {
+        return cut;
+    }
+
+    public long getAccounts() {
+        return accounts;
+    }
+
+    public long getTransactions() {
+        return transactions;
+    }
+
+    public long getDiscrepancyCount() {
+        return discrepancyCount;
+    }
+
+    public long getPauseMicros() {
+        return pauseMicros;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public List<Discrepancy> getDiscrepancies() {
+        return discrepancies;
+    }
+
+    @Override
+    public String toString() {
+        return "ReconciliationReport{" +
+                "cut=" + cut +
+                ", accounts=" + accounts +
+                ", transactions=" + transactions +
+                ", discrepancyCount=" + discrepancyCount +
+                ", pauseMicros=" + pauseMicros +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+
+    public static final class Discrepancy {
+
+        private final UUID accountId;
+        private final String currency;
+        private final BigDecimal difference;
+
+        public Discrepancy(UUID accountId, String currency, BigDecimal difference) {
+            this.accountId = accountId;
+            this.currency = currency;
+            this.difference = difference;
+        }
+
+        public UUID getAccountId() {
+            return accountId;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public BigDecimal getDifference() {
+            return difference;
+        }
+
+        @Override
+        public String toString() {
+            return "Discrepancy{" +
+                    "accountId=" + accountId +
+                    ", currency='" + currency + '\'' +
+                    ", difference=" + difference +
+                    '}';
+        }
+    }
+}
@@ -35,6 +35,24 @@ public final class TransactionDto implements Serializable {
         return currency;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        TransactionDto that = (TransactionDto) o;
+
+        return Objects.equals(sourceAccountId, that.sourceAccountId)
+                && Objects.equals(targetAccountId, that.targetAccountId)
+                && amount.compareTo(that.amount) == 0
+                && Objects.equals(currency, that.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sourceAccountId, targetAccountId, amount.stripTrailingZeros(), currency);
+    }
+
     @Override
     public String toString() {
         return "TransactionDto{" +
@@ -0,0 +1,62 @@
+package com.core.banking.dto;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.core.banking.model.Transaction;
+import com.core.banking.model.TransactionCursor;
+
+public final class TransactionFilter {
+
+    public static final TransactionFilter ALL = new TransactionFilter(null, null, null, null);
+
+    private final UUID accountId;
+    private final Transaction.Status status;
+    private final Instant from;
+    private final Instant to;
+
+    public TransactionFilter(UUID accountId, Transaction.Status status, Instant from, Instant to) {
+        this.accountId = accountId;
+        this.status = status;
+        this.from = from;
+        this.to = to;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public Transaction.Status getStatus() {
+        return status;
+    }
+
+    public Instant getFrom() {
+        return from;
+    }
+
+    public Instant getTo() {
+        return to;
+    }
+
+    public boolean isPastEnd(TransactionCursor cursor) {
+        return Objects.nonNull(to) && cursor.getCreatedAt() >= TransactionCursor.toEpochNanos(to);
+    }
+
+    public boolean matches(Transaction transaction) {
+        if (Objects.nonNull(accountId) && !accountId.equals(transaction.getSourceAccountId()) && !accountId.equals(transaction.getTargetAccountId())) {
+            return false;
+        }
+        return Objects.isNull(status) || status == transaction.getStatus();
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionFilter{" +
+                "accountId=" + accountId +
+                ", status=" + status +
+                ", from=" + from +
+                ", to=" + to +
+                '}';
+    }
+}
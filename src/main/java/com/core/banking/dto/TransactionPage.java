@@ -0,0 +1,32 @@
+package com.core.banking.dto;
+
+import java.util.List;
+
+import com.core.banking.model.Transaction;
+
+public final class TransactionPage {
+
+    private final List<Transaction> transactions;
+    private final String nextCursor;
+
+    public TransactionPage(List<Transaction> transactions, String nextCursor) {
+        this.transactions = transactions;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionPage{" +
+                "transactions=" + transactions +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,42 @@
+package com.core.banking.dto;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import com.core.banking.model.Transaction;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class TransferResult {
+
+    private final UUID transactionId;
+    private final Transaction.Status status;
+    private final String error;
+
+    public TransferResult(UUID transactionId, Transaction.Status status, String error) {
+        this.transactionId = transactionId;
+        this.status = status;
+        this.error = error;
+    }
+
+    public UUID getTransactionId() {
+        return transactionId;
+    }
+
+    public Transaction.Status getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "TransferResult{" +
+                "transactionId=" + transactionId +
+                ", status=" + status +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,8 @@
+package com.core.banking.exception;
+
+public final class AccountAlreadyExistsException extends Exception {
+
+    public AccountAlreadyExistsException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -3,6 +3,6 @@ package com.core.banking.exception;
 public final class AccountNotFoundException extends Exception {
 
     public AccountNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,8 @@
+package com.core.banking.exception;
+
+public final class BatchTooLargeException extends Exception {
+
+    public BatchTooLargeException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,8 @@
+package com.core.banking.exception;
+
+public final class IdempotencyKeyReusedException extends Exception {
+
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
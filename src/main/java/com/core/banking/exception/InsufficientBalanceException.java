@@ -3,6 +3,6 @@ package com.core.banking.exception;
 public final class InsufficientBalanceException extends Exception {
 
     public InsufficientBalanceException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
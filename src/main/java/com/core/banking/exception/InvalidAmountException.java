@@ -3,6 +3,6 @@ package com.core.banking.exception;
 public final class InvalidAmountException extends Exception {
 
     public InvalidAmountException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
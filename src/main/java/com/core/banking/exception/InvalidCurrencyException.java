@@ -3,6 +3,6 @@ package com.core.banking.exception;
 public final class InvalidCurrencyException extends Exception {
 
     public InvalidCurrencyException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,8 @@
+package com.core.banking.exception;
+
+public final class InvalidCursorException extends Exception {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,6 @@ package com.core.banking.exception;
 public final class SameAccountException extends Exception {
 
     public SameAccountException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
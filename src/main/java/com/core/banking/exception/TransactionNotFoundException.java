@@ -0,0 +1,8 @@
+package com.core.banking.exception;
+
+public final class TransactionNotFoundException extends Exception {
+
+    public TransactionNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -5,19 +5,81 @@ import java.sql.Timestamp;
 import java.time.ZoneId;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 public final class Account {
 
+    private static final int CELL_STRIDE = 8;
+    private static final int HOLD_CREDITS_AFTER = 8;
+
     private final UUID id;
-    private BigDecimal balance;
-    private final String currency;
+    private volatile long balance;
+    private volatile long openingBalance;
+    private final int currencyCode;
     private final Timestamp createdAt;
+    private final AtomicLongArray cells;
+    private final int cellMask;
+    private final AtomicInteger readers;
+    private volatile long version;
 
     public Account(UUID id, BigDecimal balance, String currency, Timestamp createdAt) {
         this.id = id;
+        this.currencyCode = Currencies.codeOf(currency);
+        if (currencyCode == Currencies.UNKNOWN) {
+            throw new IllegalArgumentException(String.format("Account currency (%s) is invalid", currency));
+        }
+        this.balance = Money.toMinorUnits(balance, currencyCode);
+        this.openingBalance = this.balance;
+        this.createdAt = createdAt;
+        this.cells = null;
+        this.cellMask = 0;
+        this.readers = null;
+    }
+
+    public Account(UUID id, long balance, int currencyCode, Timestamp createdAt) {
+        this(id, balance, balance, currencyCode, createdAt);
+    }
+
+    public Account(UUID id, long balance, long openingBalance, int currencyCode, Timestamp createdAt) {
+        this.id = id;
+        this.currencyCode = currencyCode;
+        if (currencyCode < 0 || currencyCode >= Currencies.count()) {
+            throw new IllegalArgumentException(String.format("Account currency (%s) is invalid", currencyCode));
+        }
         this.balance = balance;
-        this.currency = currency;
+        this.openingBalance = openingBalance;
         this.createdAt = createdAt;
+        this.cells = null;
+        this.cellMask = 0;
+        this.readers = null;
+    }
+
+    private Account(Account account, int slots) {
+        this.id = account.id;
+        this.currencyCode = account.currencyCode;
+        this.createdAt = account.createdAt;
+        this.openingBalance = account.openingBalance;
+        int size = 1;
+        while (size < slots) {
+            size <<= 1;
+        }
+        this.cells = new AtomicLongArray(size * CELL_STRIDE);
+        this.cells.set(0, account.getBalanceMinorUnits());
+        this.cellMask = size - 1;
+        this.readers = new AtomicInteger();
+    }
+
+    public Account split(int slots) {
+        return new Account(this, slots);
+    }
+
+    @JsonIgnore
+    public boolean isSplit() {
+        return cells != null;
     }
 
     public UUID getId() {
@@ -25,15 +87,138 @@ public final class Account {
     }
 
     public BigDecimal getBalance() {
-        return balance;
+        return Money.toDecimal(getBalanceMinorUnits(), currencyCode);
     }
 
-    public void setBalance(BigDecimal balance) {
-        this.balance = balance;
+    @JsonIgnore
+    public long getBalanceMinorUnits() {
+        if (cells == null) {
+            return balance;
+        }
+        long[] collected = new long[cellMask + 1];
+        boolean holding = false;
+        try {
+            for (int attempt = 0; ; attempt++) {
+                if (attempt == HOLD_CREDITS_AFTER) {
+                    readers.incrementAndGet();
+                    holding = true;
+                }
+                long before = version;
+                if ((before & 1) != 0) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                for (int cell = 0; cell <= cellMask; cell++) {
+                    collected[cell] = cells.get(cell * CELL_STRIDE);
+                }
+                long sum = 0;
+                boolean stable = true;
+                for (int cell = 0; cell <= cellMask && stable; cell++) {
+                    stable = cells.get(cell * CELL_STRIDE) == collected[cell];
+                    sum = Money.add(sum, collected[cell]);
+                }
+                if (stable && version == before) {
+                    return sum;
+                }
+            }
+        } finally {
+            if (holding) {
+                readers.decrementAndGet();
+            }
+        }
+    }
+
+    public void debit(long amount) {
+        if (cells == null) {
+            balance = Money.subtract(balance, amount);
+            return;
+        }
+        long before = version;
+        version = before + 1;
+        long remaining = amount;
+        int start = ThreadLocalRandom.current().nextInt(cellMask + 1);
+        boolean drained = true;
+        while (remaining > 0 && drained) {
+            drained = false;
+            for (int i = 0; i <= cellMask && remaining > 0; i++) {
+                int index = ((start + i) & cellMask) * CELL_STRIDE;
+                long current;
+                long taken;
+                do {
+                    current = cells.get(index);
+                    taken = Math.min(Math.max(current, 0), remaining);
+                } while (taken > 0 && !cells.compareAndSet(index, current, current - taken));
+                remaining -= taken;
+                drained |= taken > 0;
+            }
+        }
+        if (remaining > 0) {
+            cells.getAndAdd(0, -remaining);
+        }
+        version = before + 2;
+    }
+
+    long[] cellBalances() {
+        long[] balances = new long[cellMask + 1];
+        for (int cell = 0; cell <= cellMask; cell++) {
+            balances[cell] = cells.get(cell * CELL_STRIDE);
+        }
+        return balances;
+    }
+
+    public void credit(long amount) {
+        if (cells == null) {
+            balance = Money.add(balance, amount);
+            return;
+        }
+        while (readers.get() != 0) {
+            Thread.onSpinWait();
+        }
+        cells.accumulateAndGet(ThreadLocalRandom.current().nextInt(cellMask + 1) * CELL_STRIDE, amount, Money::add);
+    }
+
+    @JsonIgnore
+    public long getOpeningBalanceMinorUnits() {
+        return openingBalance;
+    }
+
+    public void restore(long balance, long openingBalance) {
+        this.openingBalance = openingBalance;
+        if (cells == null) {
+            this.balance = balance;
+            return;
+        }
+        long before = version;
+        version = before + 1;
+        for (int cell = 1; cell <= cellMask; cell++) {
+            cells.set(cell * CELL_STRIDE, 0);
+        }
+        cells.set(0, balance);
+        version = before + 2;
+    }
+
+    public void rebalance() {
+        if (cells == null) {
+            return;
+        }
+        long before = version;
+        version = before + 1;
+        for (int cell = 1; cell <= cellMask; cell++) {
+            long moved = cells.getAndSet(cell * CELL_STRIDE, 0);
+            if (moved != 0) {
+                cells.getAndAdd(0, moved);
+            }
+        }
+        version = before + 2;
     }
 
     public String getCurrency() {
-        return currency;
+        return Currencies.isoCode(currencyCode);
+    }
+
+    @JsonIgnore
+    public int getCurrencyCode() {
+        return currencyCode;
     }
 
     public Timestamp getCreatedAt() {
@@ -63,8 +248,8 @@ public final class Account {
     public String toString() {
         return "Account{" +
                 "id=" + id +
-                ", balance=" + balance +
-                ", currency='" + currency + '\'' +
+                ", balance=" + getBalance() +
+                ", currency='" + getCurrency() + '\'' +
                 ", createdAt=" + createdAt +
                 '}';
     }
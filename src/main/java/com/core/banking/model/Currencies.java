@@ -0,0 +1,74 @@
+package com.core.banking.model;
+
+import java.util.Currency;
+
+public final class Currencies {
+
+    public static final int UNKNOWN = -1;
+
+    private static final String[] CODES = Currency.getAvailableCurrencies().stream()
+            .map(Currency::getCurrencyCode)
+            .sorted()
+            .toArray(String[]::new);
+    private static final int[] FRACTION_DIGITS = new int[CODES.length];
+    private static final short[] LOOKUP = new short[26 * 26 * 26];
+    private static final int[] NUMERIC_CODES = new int[CODES.length];
+    private static final short[] NUMERIC_LOOKUP = new short[1000];
+
+    static {
+        for (int code = 0; code < CODES.length; code++) {
+            FRACTION_DIGITS[code] = Math.max(0, Currency.getInstance(CODES[code]).getDefaultFractionDigits());
+            LOOKUP[slot(CODES[code])] = (short) (code + 1);
+            NUMERIC_CODES[code] = Currency.getInstance(CODES[code]).getNumericCode();
+            if (NUMERIC_CODES[code] > 0 && NUMERIC_CODES[code] < NUMERIC_LOOKUP.length && NUMERIC_LOOKUP[NUMERIC_CODES[code]] == 0) {
+                NUMERIC_LOOKUP[NUMERIC_CODES[code]] = (short) (code + 1);
+            }
+        }
+    }
+
+    private Currencies() {
+    }
+
+    public static int count() {
+        return CODES.length;
+    }
+
+    public static int codeOf(String currency) {
+        if (currency == null || currency.length() != 3) {
+            return UNKNOWN;
+        }
+        int slot = slot(currency);
+        return slot < 0 ? UNKNOWN : LOOKUP[slot] - 1;
+    }
+
+    public static String isoCode(int code) {
+        return CODES[code];
+    }
+
+    public static int numericCode(int code) {
+        return NUMERIC_CODES[code];
+    }
+
+    public static int codeOfNumeric(int numericCode) {
+        if (numericCode <= 0 || numericCode >= NUMERIC_LOOKUP.length) {
+            return UNKNOWN;
+        }
+        return NUMERIC_LOOKUP[numericCode] - 1;
+    }
+
+    public static int fractionDigits(int code) {
+        return FRACTION_DIGITS[code];
+    }
+
+    private static int slot(String currency) {
+        int slot = 0;
+        for (int i = 0; i < 3; i++) {
+            int letter = currency.charAt(i) - 'A';
+            if (letter < 0 || letter >= 26) {
+                return -1;
+            }
+            slot = slot * 26 + letter;
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,35 @@
+package com.core.banking.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class Money {
+
+    private Money() {
+    }
+
+    public static long toMinorUnits(BigDecimal amount, int currency) {
+        return amount.setScale(Currencies.fractionDigits(currency), RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long minorUnits, int currency) {
+        return BigDecimal.valueOf(minorUnits, Currencies.fractionDigits(currency));
+    }
+
+    public static long add(long augend, long addend) {
+        return Math.addExact(augend, addend);
+    }
+
+    public static long subtract(long minuend, long subtrahend) {
+        return Math.subtractExact(minuend, subtrahend);
+    }
+
+    public static long rescale(long minorUnits, int currencyFrom, int currencyTo, RoundingMode roundingMode) {
+        int from = Currencies.fractionDigits(currencyFrom);
+        int to = Currencies.fractionDigits(currencyTo);
+        if (from == to) {
+            return minorUnits;
+        }
+        return BigDecimal.valueOf(minorUnits, from).setScale(to, roundingMode).unscaledValue().longValueExact();
+    }
+}
@@ -0,0 +1,78 @@
+package com.core.banking.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+public final class RateTable {
+
+    public static final String PIVOT = "pivot";
+
+    private static final MathContext PRECISION = MathContext.DECIMAL64;
+
+    private final int pivot;
+    private final int count;
+    private final BigDecimal[] factors;
+
+    public RateTable(String pivot, Map<String, BigDecimal> rates) {
+        this.pivot = code(pivot);
+        this.count = Currencies.count();
+        this.factors = new BigDecimal[count * count];
+
+        BigDecimal[] perPivot = new BigDecimal[count];
+        perPivot[this.pivot] = BigDecimal.ONE;
+        for (Map.Entry<String, BigDecimal> rate : rates.entrySet()) {
+            if (rate.getValue().signum() <= 0) {
+                throw new IllegalArgumentException(String.format("Currency rate (%s=%s) is invalid", rate.getKey(), rate.getValue()));
+            }
+            perPivot[code(rate.getKey())] = rate.getValue();
+        }
+
+        for (int from = 0; from < count; from++) {
+            if (perPivot[from] == null) {
+                continue;
+            }
+            for (int to = 0; to < count; to++) {
+                if (perPivot[to] == null) {
+                    continue;
+                }
+                factors[from * count + to] = perPivot[to].divide(perPivot[from], PRECISION)
+                        .scaleByPowerOfTen(Currencies.fractionDigits(to) - Currencies.fractionDigits(from));
+            }
+        }
+    }
+
+    public static RateTable load(InputStream input) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Map<String, BigDecimal> rates = new HashMap<>();
+        for (String currency : properties.stringPropertyNames()) {
+            if (!PIVOT.equals(currency)) {
+                rates.put(currency, new BigDecimal(properties.getProperty(currency).trim()));
+            }
+        }
+        return new RateTable(properties.getProperty(PIVOT, "").trim(), rates);
+    }
+
+    public int getPivot() {
+        return pivot;
+    }
+
+    public BigDecimal factor(int currencyFrom, int currencyTo) {
+        return factors[currencyFrom * count + currencyTo];
+    }
+
+    private static int code(String currency) {
+        int code = Currencies.codeOf(currency);
+        if (code == Currencies.UNKNOWN) {
+            throw new IllegalArgumentException(String.format("Currency (%s) is invalid", currency));
+        }
+        return code;
+    }
+}
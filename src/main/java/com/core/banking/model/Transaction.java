@@ -3,10 +3,10 @@ package com.core.banking.model;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.ZoneId;
-import java.util.Currency;
-import java.util.Objects;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import com.core.banking.exception.InvalidAmountException;
 import com.core.banking.exception.InvalidCurrencyException;
 
@@ -16,10 +16,16 @@ public final class Transaction {
     private final UUID sourceAccountId;
     private final UUID targetAccountId;
     private BigDecimal amount;
+    private long amountMinorUnits;
     private String currency;
-    public enum Status {SUCCESS, FAIL}
-    private Status status;
+    private int currencyCode;
+    public enum Status {SUCCESS, FAIL, PENDING}
+    private volatile Status status = Status.PENDING;
     private final Timestamp createdAt;
+    private long debit = -1;
+    private long credit = -1;
+    private volatile long debitPosting;
+    private volatile long creditPosting;
 
     public Transaction(UUID id, UUID sourceAccountId, UUID targetAccountId, BigDecimal amount, String currency, Timestamp createdAt) throws InvalidAmountException, InvalidCurrencyException {
         this.id = id;
@@ -27,6 +33,7 @@ public final class Transaction {
         this.targetAccountId = targetAccountId;
         setAmount(amount);
         setCurrency(currency);
+        setAmountMinorUnits(amount);
         this.createdAt = createdAt;
     }
 
@@ -46,14 +53,24 @@ public final class Transaction {
         return amount;
     }
 
+    @JsonIgnore
+    public long getAmountMinorUnits() {
+        return amountMinorUnits;
+    }
+
     public Status getStatus() {
-        return Objects.isNull(status) ? Status.FAIL : status;
+        return status;
     }
 
     public String getCurrency() {
         return currency;
     }
 
+    @JsonIgnore
+    public int getCurrencyCode() {
+        return currencyCode;
+    }
+
     public Timestamp getCreatedAt() {
         return getCreatedAt(ZoneId.systemDefault());
     }
@@ -66,18 +83,59 @@ public final class Transaction {
         this.status = status;
     }
 
+    @JsonIgnore
+    public long getDebitMinorUnits() {
+        return debit;
+    }
+
+    @JsonIgnore
+    public long getCreditMinorUnits() {
+        return credit;
+    }
+
+    public void postDebit(long debit, long posting) {
+        this.debit = debit;
+        this.debitPosting = posting;
+    }
+
+    public void postCredit(long credit, long posting) {
+        this.credit = credit;
+        this.creditPosting = posting;
+    }
+
+    public boolean isDebitPosted(long cut) {
+        return isPosted(debitPosting, cut);
+    }
+
+    public boolean isCreditPosted(long cut) {
+        return isPosted(creditPosting, cut);
+    }
+
+    private boolean isPosted(long posting, long cut) {
+        return posting > 0 ? posting <= cut : status == Status.SUCCESS;
+    }
+
     private void setAmount(BigDecimal amount) throws InvalidAmountException {
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new InvalidAmountException(String.format("Transaction amount (%s) is invalid", amount));
+        if (amount.signum() <= 0) {
+            throw new InvalidAmountException("Transaction amount (" + amount + ") is invalid");
         }
         this.amount = amount;
     }
 
     private void setCurrency(String currency) throws InvalidCurrencyException {
+        int code = Currencies.codeOf(currency);
+        if (code == Currencies.UNKNOWN) {
+            throw new InvalidCurrencyException("Transaction currency (" + currency + ") is invalid");
+        }
+        this.currency = Currencies.isoCode(code);
+        this.currencyCode = code;
+    }
+
+    private void setAmountMinorUnits(BigDecimal amount) throws InvalidAmountException {
         try {
-            this.currency = Currency.getInstance(currency).getCurrencyCode();
-        } catch (IllegalArgumentException e) {
-            throw new InvalidCurrencyException(String.format("Transaction currency (%s) is invalid", currency));
+            this.amountMinorUnits = Money.toMinorUnits(amount, currencyCode);
+        } catch (ArithmeticException e) {
+            throw new InvalidAmountException("Transaction amount (" + amount + ") is invalid");
         }
     }
 
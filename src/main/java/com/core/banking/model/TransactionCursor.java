@@ -0,0 +1,78 @@
+package com.core.banking.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.core.banking.exception.InvalidCursorException;
+
+public final class TransactionCursor implements Comparable<TransactionCursor> {
+
+    private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private final long createdAt;
+    private final UUID id;
+
+    public TransactionCursor(long createdAt, UUID id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(toEpochNanos(transaction.getCreatedAt().toInstant()), transaction.getId());
+    }
+
+    public static TransactionCursor first(Instant createdAt) {
+        return first(toEpochNanos(createdAt));
+    }
+
+    public static TransactionCursor first(long createdAt) {
+        return new TransactionCursor(createdAt, MIN_ID);
+    }
+
+    public static TransactionCursor parse(String value) throws InvalidCursorException {
+        int separator = value.indexOf(':');
+        try {
+            return new TransactionCursor(Long.parseLong(value.substring(0, separator)), UUID.fromString(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(String.format("Transaction cursor (%s) is invalid", value));
+        }
+    }
+
+    public static long toEpochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public int compareTo(TransactionCursor other) {
+        int result = Long.compare(createdAt, other.createdAt);
+        return result != 0 ? result : id.compareTo(other.id);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        TransactionCursor that = (TransactionCursor) o;
+
+        return createdAt == that.createdAt && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(createdAt) + id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return createdAt + ":" + id;
+    }
+}
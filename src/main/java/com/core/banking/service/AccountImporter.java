@@ -0,0 +1,329 @@
+package com.core.banking.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import com.core.banking.dto.AccountImportResult;
+import com.core.banking.exception.AccountAlreadyExistsException;
+import com.core.banking.model.Account;
+import com.core.banking.model.Currencies;
+
+@Component
+@DependsOn("transactionService")
+public class AccountImporter {
+
+    public static final int BINARY_MAGIC = 0x41434354;
+    public static final int BINARY_VERSION = 1;
+    public static final int BINARY_HEADER_SIZE = 8;
+    public static final int BINARY_RECORD_SIZE = 34;
+
+    private static final long CHUNK_SIZE = 1 << 26;
+    private static final String CSV_SUFFIX = ".csv";
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000};
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccountImporter.class);
+
+    private final AccountService accountService;
+    private final TransactionJournal transactionJournal;
+    private final Path directory;
+    private final String startupFile;
+    private final int parallelism;
+
+    @Autowired
+    public AccountImporter(AccountService accountService,
+                           TransactionJournal transactionJournal,
+                           @Value("${banking.accounts.import.directory:data/import}") String directory,
+                           @Value("${banking.accounts.import.file:}") String startupFile,
+                           @Value("${banking.accounts.import.parallelism:0}") int parallelism) {
+        this.accountService = accountService;
+        this.transactionJournal = transactionJournal;
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.startupFile = startupFile;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @PostConstruct
+    public void importOnStartup() throws IOException {
+        if (startupFile.isEmpty()) {
+            return;
+        }
+        LOGGER.info("imported accounts from {}: {}", startupFile, importFile(Paths.get(startupFile)));
+    }
+
+    public AccountImportResult importFromDirectory(String name) throws IOException {
+        Path file = directory.resolve(name).normalize();
+        if (!file.startsWith(directory) || file.equals(directory)) {
+            throw new IllegalArgumentException("account import file is invalid: " + name);
+        }
+        return importFile(file);
+    }
+
+    public AccountImportResult importFile(Path file) throws IOException {
+        long started = System.nanoTime();
+        boolean csv = file.getFileName().toString().endsWith(CSV_SUFFIX);
+        Timestamp importedAt = Timestamp.from(Instant.now());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<long[]> chunks = csv ? csvChunks(channel) : binaryChunks(channel, file);
+            AtomicBoolean failed = new AtomicBoolean();
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, chunks.size())), runnable -> {
+                Thread thread = new Thread(runnable, "account-importer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            List<Future<Progress>> futures = new ArrayList<>(chunks.size());
+            for (long[] chunk : chunks) {
+                futures.add(executor.submit(() -> csv
+                        ? importCsv(channel, file, chunk[0], chunk[1], importedAt, failed)
+                        : importBinary(channel, chunk[0], chunk[1], failed)));
+            }
+            Progress total = new Progress();
+            try {
+                for (Future<Progress> future : futures) {
+                    Progress progress = future.get();
+                    total.imported += progress.imported;
+                    total.duplicates += progress.duplicates;
+                    total.sequence = Math.max(total.sequence, progress.sequence);
+                }
+            } catch (ExecutionException e) {
+                failed.set(true);
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                failed.set(true);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("account import was interrupted: " + file, e);
+            } finally {
+                executor.shutdown();
+                awaitTermination(executor);
+            }
+            transactionJournal.awaitDurable(total.sequence);
+            return new AccountImportResult(file.toString(), total.imported, total.duplicates, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+    }
+
+    private List<long[]> csvChunks(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int count = (int) Math.max(parallelism * 4L, (size + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        List<long[]> chunks = new ArrayList<>(count);
+        ByteBuffer probe = ByteBuffer.allocate(256);
+        long start = 0;
+        for (int i = 1; i <= count && start < size; i++) {
+            long end = i == count ? size : Math.max(start, size * i / count);
+            while (end < size) {
+                probe.clear();
+                int read = channel.read(probe, end);
+                int newline = -1;
+                for (int j = 0; j < read && newline < 0; j++) {
+                    if (probe.get(j) == '\n') {
+                        newline = j;
+                    }
+                }
+                if (newline >= 0) {
+                    end += newline + 1;
+                    break;
+                }
+                end += read;
+            }
+            if (end > start) {
+                chunks.add(new long[]{start, end});
+                start = end;
+            }
+        }
+        return chunks;
+    }
+
+    private List<long[]> binaryChunks(FileChannel channel, Path file) throws IOException {
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(BINARY_HEADER_SIZE);
+        if (channel.read(header, 0) != BINARY_HEADER_SIZE || header.getInt(0) != BINARY_MAGIC || header.getInt(4) != BINARY_VERSION
+                || (size - BINARY_HEADER_SIZE) % BINARY_RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("account import file is not a valid binary account file: " + file.getFileName());
+        }
+        long records = (size - BINARY_HEADER_SIZE) / BINARY_RECORD_SIZE;
+        long perChunk = Math.max(1, Math.min(CHUNK_SIZE / BINARY_RECORD_SIZE, (records + parallelism * 4L - 1) / (parallelism * 4L)));
+        List<long[]> chunks = new ArrayList<>();
+        for (long record = 0; record < records; record += perChunk) {
+            chunks.add(new long[]{BINARY_HEADER_SIZE + record * BINARY_RECORD_SIZE, BINARY_HEADER_SIZE + Math.min(records, record + perChunk) * BINARY_RECORD_SIZE});
+        }
+        return chunks;
+    }
+
+    private Progress importCsv(FileChannel channel, Path file, long start, long end, Timestamp importedAt, AtomicBoolean failed) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        Progress progress = new Progress();
+        int limit = buffer.limit();
+        int line = 0;
+        while (line < limit && !failed.get()) {
+            int eol = line;
+            while (eol < limit && buffer.get(eol) != '\n') {
+                eol++;
+            }
+            int last = eol > line && buffer.get(eol - 1) == '\r' ? eol - 1 : eol;
+            if (last > line && buffer.get(line) != 'i') {
+                Account account = parseCsv(buffer, line, last, importedAt);
+                if (account == null) {
+                    throw new IllegalArgumentException("account import line is invalid at byte " + (start + line) + " of " + file.getFileName());
+                }
+                register(account, progress);
+            }
+            line = eol + 1;
+        }
+        return progress;
+    }
+
+    private Progress importBinary(FileChannel channel, long start, long end, AtomicBoolean failed) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        Progress progress = new Progress();
+        for (int offset = 0; offset < buffer.limit() && !failed.get(); offset += BINARY_RECORD_SIZE) {
+            UUID id = new UUID(buffer.getLong(offset), buffer.getLong(offset + 8));
+            long balance = buffer.getLong(offset + 16);
+            int currency = Currencies.codeOfNumeric(buffer.getShort(offset + 24));
+            long createdAt = buffer.getLong(offset + 26);
+            if (currency == Currencies.UNKNOWN || balance < 0) {
+                throw new IllegalArgumentException("account import record is invalid: " + id);
+            }
+            register(new Account(id, balance, currency,
+                    Timestamp.from(Instant.ofEpochSecond(Math.floorDiv(createdAt, 1_000_000_000L), Math.floorMod(createdAt, 1_000_000_000L)))), progress);
+        }
+        return progress;
+    }
+
+    private void register(Account account, Progress progress) {
+        try {
+            progress.sequence = Math.max(progress.sequence, accountService.register(account));
+            progress.imported++;
+        } catch (AccountAlreadyExistsException e) {
+            progress.duplicates++;
+        }
+    }
+
+    private static Account parseCsv(ByteBuffer buffer, int from, int to, Timestamp importedAt) {
+        if (to - from < 42 || buffer.get(from + 36) != ',') {
+            return null;
+        }
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 36; i++) {
+            byte b = buffer.get(from + i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (b != '-') {
+                    return null;
+                }
+                continue;
+            }
+            int digit = Character.digit(b, 16);
+            if (digit < 0) {
+                return null;
+            }
+            if (i < 18) {
+                msb = msb << 4 | digit;
+            } else {
+                lsb = lsb << 4 | digit;
+            }
+        }
+        int position = from + 37;
+        long unscaled = 0;
+        int scale = -1;
+        int digits = 0;
+        for (; position < to && buffer.get(position) != ','; position++) {
+            byte b = buffer.get(position);
+            if (b == '.' && scale < 0) {
+                scale = 0;
+                continue;
+            }
+            if (b < '0' || b > '9' || digits == 18) {
+                return null;
+            }
+            unscaled = unscaled * 10 + (b - '0');
+            digits++;
+            if (scale >= 0) {
+                scale++;
+            }
+        }
+        if (digits == 0 || position + 4 > to) {
+            return null;
+        }
+        byte[] code = new byte[3];
+        for (int i = 0; i < 3; i++) {
+            code[i] = buffer.get(position + 1 + i);
+        }
+        int currency = Currencies.codeOf(new String(code, StandardCharsets.US_ASCII));
+        if (currency == Currencies.UNKNOWN) {
+            return null;
+        }
+        int fractionDigits = Currencies.fractionDigits(currency);
+        scale = Math.max(scale, 0);
+        if (scale > fractionDigits || fractionDigits - scale >= POWERS_OF_TEN.length) {
+            return null;
+        }
+        Timestamp createdAt = importedAt;
+        position += 4;
+        if (position < to) {
+            if (buffer.get(position) != ',') {
+                return null;
+            }
+            byte[] instant = new byte[to - position - 1];
+            for (int i = 0; i < instant.length; i++) {
+                instant[i] = buffer.get(position + 1 + i);
+            }
+            try {
+                createdAt = Timestamp.from(Instant.parse(new String(instant, StandardCharsets.US_ASCII)));
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+        try {
+            return new Account(new UUID(msb, lsb), Math.multiplyExact(unscaled, POWERS_OF_TEN[fractionDigits - scale]), currency, createdAt);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Progress {
+
+        private long imported;
+        private long duplicates;
+        private long sequence = -1;
+    }
+}
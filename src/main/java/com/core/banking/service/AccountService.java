@@ -1,23 +1,148 @@
 package com.core.banking.service;
 
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.core.banking.dto.AccountBalance;
+import com.core.banking.dto.AccountDto;
+import com.core.banking.exception.AccountAlreadyExistsException;
+import com.core.banking.exception.InvalidAmountException;
+import com.core.banking.exception.InvalidCurrencyException;
 import com.core.banking.model.Account;
+import com.core.banking.model.Currencies;
+import com.core.banking.model.Money;
 
 @Service
 public class AccountService {
 
-    private final Map<UUID, Account> accounts;
+    private static final AccountAlreadyExistsException ALREADY_EXISTS = new AccountAlreadyExistsException("account already exists");
+    private static final int OPEN_STRIPES = 64;
+
+    private final AccountStore accountStore;
+    private final TransactionJournal transactionJournal;
+    private final Object[] openLocks = new Object[OPEN_STRIPES];
+    private final Set<UUID> hotAccountIds;
+    private final int hotSlots;
+    private final Map<UUID, Account> hotAccounts = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AccountService(AccountStore accountStore, TransactionJournal transactionJournal, @Value("${banking.accounts.hot:}") String hotAccountIds, @Value("${banking.accounts.hot-slots:16}") int hotSlots) {
+        this.accountStore = accountStore;
+        this.transactionJournal = transactionJournal;
+        this.hotAccountIds = Arrays.stream(hotAccountIds.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(UUID::fromString)
+                .collect(Collectors.toUnmodifiableSet());
+        this.hotSlots = hotSlots;
+        for (int i = 0; i < OPEN_STRIPES; i++) {
+            openLocks[i] = new Object();
+        }
+    }
+
+    public AccountService(AccountStore accountStore, String hotAccountIds, int hotSlots) {
+        this(accountStore, null, hotAccountIds, hotSlots);
+    }
+
+    public AccountService(AccountStore accountStore) {
+        this(accountStore, "", 1);
+    }
 
     public AccountService(Map<UUID, Account> accounts) {
-        this.accounts = accounts;
+        this(new HeapAccountStore(accounts));
     }
 
     public Optional<Account> findById(UUID id) {
-        return Optional.ofNullable(accounts.get(id));
+        if (!hotAccountIds.contains(id)) {
+            return accountStore.findById(id);
+        }
+        Account hot = hotAccounts.get(id);
+        if (Objects.nonNull(hot)) {
+            return Optional.of(hot);
+        }
+        return accountStore.findById(id).map(account -> hotAccounts.computeIfAbsent(id, key -> account.split(hotSlots)));
+    }
+
+    public Optional<AccountBalance> findBalance(UUID id) {
+        return findById(id).map(account -> new AccountBalance(id, account.getBalance(), account.getCurrency()));
+    }
+
+    public Account open(AccountDto dto) throws InvalidAmountException, InvalidCurrencyException, AccountAlreadyExistsException {
+        int currencyCode = Currencies.codeOf(dto.getCurrency());
+        if (currencyCode == Currencies.UNKNOWN) {
+            throw new InvalidCurrencyException("Account currency (" + dto.getCurrency() + ") is invalid");
+        }
+        long balance;
+        try {
+            balance = Money.toMinorUnits(dto.getBalance(), currencyCode);
+        } catch (ArithmeticException e) {
+            throw new InvalidAmountException("Account balance (" + dto.getBalance() + ") is invalid");
+        }
+        if (balance < 0) {
+            throw new InvalidAmountException("Account balance (" + dto.getBalance() + ") is invalid");
+        }
+        UUID id = Objects.isNull(dto.getId()) ? UUID.randomUUID() : dto.getId();
+        return open(new Account(id, balance, currencyCode, Timestamp.from(Instant.now())));
+    }
+
+    public Account open(Account account) throws AccountAlreadyExistsException {
+        long sequence = register(account);
+        if (Objects.nonNull(transactionJournal)) {
+            transactionJournal.awaitDurable(sequence);
+        }
+        return account;
+    }
+
+    long register(Account account) throws AccountAlreadyExistsException {
+        synchronized (openLocks[(account.getId().hashCode() & Integer.MAX_VALUE) % OPEN_STRIPES]) {
+            if (accountStore.findById(account.getId()).isPresent()) {
+                throw ALREADY_EXISTS;
+            }
+            long sequence = Objects.isNull(transactionJournal) ? -1 : transactionJournal.append(account);
+            accountStore.put(account);
+            return sequence;
+        }
+    }
+
+    public boolean restore(Account account) {
+        return accountStore.put(account);
+    }
+
+    public boolean isHot(UUID id) {
+        return hotAccountIds.contains(id);
+    }
+
+    public Collection<Account> hotAccounts() {
+        return Collections.unmodifiableCollection(hotAccounts.values());
+    }
+
+    public void save(Account account) {
+        if (account.isSplit()) {
+            return;
+        }
+        accountStore.save(account);
+    }
+
+    public long count() {
+        return accountStore.size();
+    }
+
+    public void forEach(Consumer<Account> consumer) {
+        accountStore.forEach(account -> consumer.accept(hotAccounts.getOrDefault(account.getId(), account)));
     }
 }
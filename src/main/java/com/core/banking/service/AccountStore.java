@@ -0,0 +1,20 @@
+package com.core.banking.service;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.core.banking.model.Account;
+
+public interface AccountStore {
+
+    Optional<Account> findById(UUID id);
+
+    boolean put(Account account);
+
+    void save(Account account);
+
+    long size();
+
+    void forEach(Consumer<Account> consumer);
+}
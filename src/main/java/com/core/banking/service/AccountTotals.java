@@ -0,0 +1,51 @@
+package com.core.banking.service;
+
+import java.util.UUID;
+import java.util.function.ObjLongConsumer;
+
+final class AccountTotals {
+
+    private final UUID[] accounts;
+    private final long[] net;
+    private final long transactions;
+    private final int[] order;
+    private final int[] offsets;
+
+    AccountTotals(UUID[] accounts, long[] net, long transactions, int partitions) {
+        this.accounts = accounts;
+        this.net = net;
+        this.transactions = transactions;
+        this.order = new int[accounts.length];
+        this.offsets = new int[partitions + 1];
+        int[] partition = new int[accounts.length];
+        for (int i = 0; i < accounts.length; i++) {
+            partition[i] = partitionOf(accounts[i], partitions);
+            offsets[partition[i] + 1]++;
+        }
+        for (int p = 0; p < partitions; p++) {
+            offsets[p + 1] += offsets[p];
+        }
+        int[] next = offsets.clone();
+        for (int i = 0; i < accounts.length; i++) {
+            order[next[partition[i]]++] = i;
+        }
+    }
+
+    static int partitionOf(UUID id, int partitions) {
+        long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        int hash = (int) (bits ^ (bits >>> 32));
+        return (hash ^ (hash >>> 16)) & (partitions - 1);
+    }
+
+    long getTransactions() {
+        return transactions;
+    }
+
+    void forEach(int partition, ObjLongConsumer<UUID> consumer) {
+        for (int k = offsets[partition]; k < offsets[partition + 1]; k++) {
+            if (net[order[k]] != 0) {
+                consumer.accept(accounts[order[k]], net[order[k]]);
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.core.banking.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.core.banking.dto.ReconciliationReport;
+import com.core.banking.exception.InvalidCurrencyException;
+import com.core.banking.model.Account;
+import com.core.banking.model.Money;
+import com.core.banking.model.Transaction;
+
+@Service
+public class BalanceReconciler {
+
+    static final int MAX_REPORTED = 1000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BalanceReconciler.class);
+
+    private static final Timestamp EPOCH = Timestamp.from(Instant.EPOCH);
+
+    private final TransactionService transactionService;
+    private final TransactionLedger transactionLedger;
+    private final AccountService accountService;
+    private final CurrencyConversionService currencyConversionService;
+    private final ForkJoinPool pool;
+    private final int partitions;
+    private volatile ReconciliationReport lastReport;
+
+    @Autowired
+    public BalanceReconciler(TransactionService transactionService,
+                             TransactionLedger transactionLedger,
+                             AccountService accountService,
+                             CurrencyConversionService currencyConversionService,
+                             @Value("${banking.reconciliation.parallelism:0}") int parallelism) {
+        this.transactionService = transactionService;
+        this.transactionLedger = transactionLedger;
+        this.accountService = accountService;
+        this.currencyConversionService = currencyConversionService;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads);
+        int size = 1;
+        while (size < threads * 8) {
+            size <<= 1;
+        }
+        this.partitions = size;
+    }
+
+    @Scheduled(cron = "${banking.reconciliation.cron:-}")
+    public void scheduledReconcile() {
+        ReconciliationReport report = reconcile();
+        if (report.getDiscrepancyCount() > 0) {
+            LOGGER.warn("{} {}", report, report.getDiscrepancies());
+            return;
+        }
+        LOGGER.info("{}", report);
+    }
+
+    public ReconciliationReport getLastReport() {
+        return lastReport;
+    }
+
+    public long getLastDiscrepancyCount() {
+        ReconciliationReport report = lastReport;
+        return Objects.isNull(report) ? 0 : report.getDiscrepancyCount();
+    }
+
+    public ReconciliationReport reconcile() {
+        long started = System.nanoTime();
+        Baseline[] baseline = new Baseline[1];
+        long[] pause = new long[1];
+        long[] cut = new long[1];
+        List<AccountTotals> totals = transactionLedger.aggregate(() -> transactionService.quiesce(posting -> {
+            long paused = System.nanoTime();
+            baseline[0] = new Baseline(accountService);
+            pause[0] = System.nanoTime() - paused;
+            cut[0] = posting;
+            return posting;
+        }), pool, partitions, this::convert);
+
+        OffHeapAccountStore image = baseline[0].image();
+        Map<UUID, Long> unknown = new ConcurrentHashMap<>();
+        pool.submit(() -> IntStream.range(0, partitions).parallel().forEach(partition -> {
+            for (AccountTotals total : totals) {
+                total.forEach(partition, (id, net) -> {
+                    Account account = image.findById(id).orElse(null);
+                    if (Objects.isNull(account)) {
+                        unknown.merge(id, net, Money::add);
+                        return;
+                    }
+                    account.debit(net);
+                    image.save(account);
+                });
+            }
+        })).join();
+
+        List<ReconciliationReport.Discrepancy> discrepancies = new ArrayList<>();
+        long[] count = new long[1];
+        image.forEach(account -> {
+            if (account.getBalanceMinorUnits() != 0 && count[0]++ < MAX_REPORTED) {
+                discrepancies.add(new ReconciliationReport.Discrepancy(account.getId(), account.getCurrency(), account.getBalance()));
+            }
+        });
+        unknown.forEach((id, net) -> {
+            if (net != 0 && count[0]++ < MAX_REPORTED) {
+                discrepancies.add(new ReconciliationReport.Discrepancy(id, null, BigDecimal.valueOf(-net)));
+            }
+        });
+        long transactions = totals.stream().mapToLong(AccountTotals::getTransactions).sum();
+        ReconciliationReport report = new ReconciliationReport(cut[0], baseline[0].size, transactions, count[0],
+                TimeUnit.NANOSECONDS.toMicros(pause[0]), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), discrepancies);
+        lastReport = report;
+        return report;
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.shutdown();
+    }
+
+    private long convert(Transaction transaction, UUID accountId) {
+        Account account = accountService.findById(accountId)
+                .orElseThrow(() -> new IllegalStateException("reconciled account not found: " + accountId));
+        try {
+            return currencyConversionService.convert(transaction.getAmountMinorUnits(), transaction.getCurrencyCode(), account.getCurrencyCode(),
+                    accountId.equals(transaction.getSourceAccountId()) ? RoundingMode.CEILING : RoundingMode.FLOOR);
+        } catch (InvalidCurrencyException e) {
+            throw new IllegalStateException("reconciled transaction is invalid: " + transaction.getId(), e);
+        }
+    }
+
+    private static final class Baseline {
+
+        private long[] msb;
+        private long[] lsb;
+        private long[] residual;
+        private short[] currency;
+        private int size;
+
+        private Baseline(AccountService accountService) {
+            int capacity = (int) Math.max(16, accountService.count());
+            msb = new long[capacity];
+            lsb = new long[capacity];
+            residual = new long[capacity];
+            currency = new short[capacity];
+            accountService.forEach(account -> {
+                if (size == msb.length) {
+                    grow();
+                }
+                msb[size] = account.getId().getMostSignificantBits();
+                lsb[size] = account.getId().getLeastSignificantBits();
+                residual[size] = Money.subtract(account.getBalanceMinorUnits(), account.getOpeningBalanceMinorUnits());
+                currency[size] = (short) account.getCurrencyCode();
+                size++;
+            });
+        }
+
+        private void grow() {
+            int capacity = msb.length * 2;
+            msb = Arrays.copyOf(msb, capacity);
+            lsb = Arrays.copyOf(lsb, capacity);
+            residual = Arrays.copyOf(residual, capacity);
+            currency = Arrays.copyOf(currency, capacity);
+        }
+
+        private OffHeapAccountStore image() {
+            OffHeapAccountStore image = new OffHeapAccountStore(Math.max(16, size));
+            for (int i = 0; i < size; i++) {
+                image.put(new Account(new UUID(msb[i], lsb[i]), residual[i], currency[i], EPOCH));
+            }
+            return image;
+        }
+    }
+}
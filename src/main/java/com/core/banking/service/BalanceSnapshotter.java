@@ -0,0 +1,270 @@
+package com.core.banking.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.core.banking.model.Account;
+import com.core.banking.model.Currencies;
+import com.core.banking.model.TransactionCursor;
+
+@Component
+public class BalanceSnapshotter {
+
+    static final int HEADER_SIZE = 24;
+    static final int RECORD_SIZE = 44;
+    static final int TRAILER_SIZE = 8;
+
+    private static final int MAGIC = 0x534E4150;
+    private static final int VERSION = 4;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String PREFIX = "balances-";
+    private static final String SUFFIX = ".snapshot";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int retain;
+
+    private TransactionJournal transactionJournal;
+    private TransactionLedger transactionLedger;
+    private OffHeapAccountStore image;
+    private long position;
+    private volatile long sequence = -1;
+
+    @Autowired
+    public BalanceSnapshotter(@Value("${banking.snapshot.enabled:false}") boolean enabled,
+                              @Value("${banking.snapshot.directory:data/snapshots}") String directory,
+                              @Value("${banking.snapshot.retain:2}") int retain) {
+        this.enabled = enabled;
+        this.directory = enabled ? Paths.get(directory) : null;
+        this.retain = Math.max(1, retain);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long restore(AccountService accountService, long limit) {
+        if (!enabled || !Files.isDirectory(directory)) {
+            return 0;
+        }
+        for (Path file : snapshots()) {
+            long snapshotSequence = sequenceOf(file);
+            if (snapshotSequence > limit || !isValid(file)) {
+                continue;
+            }
+            try {
+                load(file, accountService);
+            } catch (IOException e) {
+                throw new UncheckedIOException("snapshot could not be loaded: " + file, e);
+            }
+            sequence = snapshotSequence;
+            return snapshotSequence;
+        }
+        return 0;
+    }
+
+    public synchronized void start(TransactionJournal transactionJournal, AccountService accountService, TransactionLedger transactionLedger) {
+        if (!enabled || !transactionJournal.isEnabled()) {
+            return;
+        }
+        OffHeapAccountStore image = new OffHeapAccountStore(Math.max(16, accountService.count() * 2));
+        accountService.forEach(image::put);
+        this.transactionJournal = transactionJournal;
+        this.transactionLedger = transactionLedger;
+        this.image = image;
+        this.position = transactionJournal.size();
+    }
+
+    @Scheduled(fixedDelayString = "${banking.snapshot.interval-ms:60000}", initialDelayString = "${banking.snapshot.interval-ms:60000}")
+    public synchronized void snapshot() throws IOException {
+        if (image == null) {
+            return;
+        }
+        long target = transactionJournal.replayWhile(position, transactionJournal.durableSize(), this::apply);
+        if (target == position) {
+            return;
+        }
+        position = target;
+        write(target);
+        sequence = target;
+        prune();
+    }
+
+    private boolean apply(TransactionJournal.Entry entry) {
+        if (entry.isAccountOpen()) {
+            image.put(entry.toAccount());
+            return true;
+        }
+        if (!transactionLedger.isArchived(entry.getCreatedAt())) {
+            return false;
+        }
+        Account source = image.findById(entry.getSourceAccountId())
+                .orElseThrow(() -> new IllegalStateException("journaled source account not found: " + entry.getSourceAccountId()));
+        Account target = image.findById(entry.getTargetAccountId())
+                .orElseThrow(() -> new IllegalStateException("journaled target account not found: " + entry.getTargetAccountId()));
+        source.debit(entry.getDebit());
+        image.save(source);
+        target.credit(entry.getCredit());
+        image.save(target);
+        return true;
+    }
+
+    private void write(long sequence) throws IOException {
+        Files.createDirectories(directory);
+        Path temporary = directory.resolve(PREFIX + sequence + SUFFIX + ".tmp");
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(Channels.newOutputStream(channel), crc), BUFFER_SIZE));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sequence);
+            out.writeLong(image.size());
+            try {
+                image.forEach(account -> {
+                    try {
+                        out.writeLong(account.getId().getMostSignificantBits());
+                        out.writeLong(account.getId().getLeastSignificantBits());
+                        out.writeLong(account.getBalanceMinorUnits());
+                        out.writeLong(account.getOpeningBalanceMinorUnits());
+                        out.writeBytes(account.getCurrency());
+                        out.writeByte(0);
+                        out.writeLong(TransactionCursor.toEpochNanos(account.getCreatedAt().toInstant()));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+            out.writeLong(crc.getValue());
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(PREFIX + sequence + SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void load(Path file, AccountService accountService) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+            in.skipBytes(16);
+            long count = in.readLong();
+            for (long i = 0; i < count; i++) {
+                UUID id = new UUID(in.readLong(), in.readLong());
+                long balance = in.readLong();
+                long openingBalance = in.readLong();
+                byte[] currency = new byte[4];
+                in.readFully(currency);
+                int currencyCode = Currencies.codeOf(new String(currency, 0, 3, StandardCharsets.US_ASCII));
+                if (currencyCode == Currencies.UNKNOWN) {
+                    throw new IllegalStateException("snapshot account currency is unknown: " + id);
+                }
+                long createdAt = in.readLong();
+                Optional<Account> existing = accountService.findById(id);
+                if (existing.isEmpty()) {
+                    accountService.restore(new Account(id, balance, openingBalance, currencyCode,
+                            Timestamp.from(Instant.ofEpochSecond(Math.floorDiv(createdAt, 1_000_000_000L), Math.floorMod(createdAt, 1_000_000_000L)))));
+                    continue;
+                }
+                Account account = existing.get();
+                if (account.getCurrencyCode() != currencyCode) {
+                    throw new IllegalStateException("snapshot account currency does not match: " + id);
+                }
+                account.restore(balance, openingBalance);
+                accountService.save(account);
+            }
+        }
+    }
+
+    private boolean isValid(Path file) {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE), crc)) {
+            long size = Files.size(file);
+            if (size < HEADER_SIZE + TRAILER_SIZE) {
+                return false;
+            }
+            DataInputStream header = new DataInputStream(in);
+            if (header.readInt() != MAGIC || header.readInt() != VERSION || header.readLong() != sequenceOf(file)) {
+                return false;
+            }
+            long count = header.readLong();
+            if (size != HEADER_SIZE + count * RECORD_SIZE + TRAILER_SIZE) {
+                return false;
+            }
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long remaining = count * RECORD_SIZE;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    return false;
+                }
+                remaining -= read;
+            }
+            long expected = crc.getValue();
+            return header.readLong() == expected;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void prune() throws IOException {
+        List<Path> snapshots = snapshots();
+        for (int i = retain; i < snapshots.size(); i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+    }
+
+    private List<Path> snapshots() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> sequenceOf(file) >= 0)
+                    .sorted(Comparator.comparingLong(BalanceSnapshotter::sequenceOf).reversed())
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.core.banking.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Component
+public class BankingMetrics implements MeterBinder {
+
+    private final TransactionLedger transactionLedger;
+    private final AccountService accountService;
+    private final IdempotencyCache idempotencyCache;
+    private final TransactionJournal transactionJournal;
+    private final BalanceSnapshotter balanceSnapshotter;
+    private final TransactionArchive transactionArchive;
+    private final TransferEventLog transferEventLog;
+    private final BalanceReconciler balanceReconciler;
+    private final TransferLimiter transferLimiter;
+
+    @Autowired
+    public BankingMetrics(TransactionLedger transactionLedger, AccountService accountService, IdempotencyCache idempotencyCache, TransactionJournal transactionJournal, BalanceSnapshotter balanceSnapshotter, TransactionArchive transactionArchive, TransferEventLog transferEventLog, BalanceReconciler balanceReconciler, TransferLimiter transferLimiter) {
+        this.transactionLedger = transactionLedger;
+        this.accountService = accountService;
+        this.idempotencyCache = idempotencyCache;
+        this.transactionJournal = transactionJournal;
+        this.balanceSnapshotter = balanceSnapshotter;
+        this.transactionArchive = transactionArchive;
+        this.transferEventLog = transferEventLog;
+        this.balanceReconciler = balanceReconciler;
+        this.transferLimiter = transferLimiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("banking.ledger.size", transactionLedger, TransactionLedger::size).register(registry);
+        Gauge.builder("banking.archive.size", transactionArchive, TransactionArchive::size).register(registry);
+        Gauge.builder("banking.archive.buckets", transactionArchive, TransactionArchive::bucketCount).register(registry);
+        FunctionCounter.builder("banking.archive.disk-reads", transactionArchive, TransactionArchive::getDiskReads).register(registry);
+        Gauge.builder("banking.accounts.count", accountService, AccountService::count).register(registry);
+        Gauge.builder("banking.journal.size", transactionJournal, TransactionJournal::size).register(registry);
+        Gauge.builder("banking.snapshot.sequence", balanceSnapshotter, BalanceSnapshotter::getSequence).register(registry);
+        Gauge.builder("banking.events.head", transferEventLog, TransferEventLog::getHead).register(registry);
+        Gauge.builder("banking.events.subscribers", transferEventLog, TransferEventLog::getSubscribers).register(registry);
+        FunctionCounter.builder("banking.events.resyncs", transferEventLog, TransferEventLog::getResyncs).register(registry);
+        Gauge.builder("banking.reconciliation.discrepancies", balanceReconciler, BalanceReconciler::getLastDiscrepancyCount).register(registry);
+        Gauge.builder("banking.limits.in-flight", transferLimiter, TransferLimiter::getInFlight).register(registry);
+        FunctionCounter.builder("banking.limits.rejections", transferLimiter, TransferLimiter::getClientRejections).tag("reason", "client").register(registry);
+        FunctionCounter.builder("banking.limits.rejections", transferLimiter, TransferLimiter::getAccountRejections).tag("reason", "account").register(registry);
+        FunctionCounter.builder("banking.limits.rejections", transferLimiter, TransferLimiter::getOverloadRejections).tag("reason", "in-flight").register(registry);
+        Gauge.builder("banking.idempotency.size", idempotencyCache, IdempotencyCache::size).register(registry);
+        FunctionCounter.builder("banking.idempotency.requests", idempotencyCache, IdempotencyCache::getHits).tag("result", "hit").register(registry);
+        FunctionCounter.builder("banking.idempotency.requests", idempotencyCache, IdempotencyCache::getMisses).tag("result", "miss").register(registry);
+        FunctionCounter.builder("banking.idempotency.evictions", idempotencyCache, IdempotencyCache::getEvictions).register(registry);
+    }
+}
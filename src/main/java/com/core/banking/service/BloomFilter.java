@@ -0,0 +1,53 @@
+package com.core.banking.service;
+
+import java.util.UUID;
+
+public final class BloomFilter {
+
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int HASHES = 7;
+
+    private final long[] words;
+    private final long bits;
+
+    public BloomFilter(int entries) {
+        this(new long[Math.max(1, (int) ((Math.max(1L, entries) * BITS_PER_ENTRY + 63) >>> 6))]);
+    }
+
+    public BloomFilter(long[] words) {
+        this.words = words;
+        this.bits = (long) words.length << 6;
+    }
+
+    public long[] words() {
+        return words;
+    }
+
+    public void add(UUID id) {
+        long first = mix(id.getMostSignificantBits() ^ Long.rotateLeft(id.getLeastSignificantBits(), 32));
+        long second = mix(first ^ id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            long bit = Math.floorMod(first + i * second, bits);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    public boolean mightContain(UUID id) {
+        long first = mix(id.getMostSignificantBits() ^ Long.rotateLeft(id.getLeastSignificantBits(), 32));
+        long second = mix(first ^ id.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            long bit = Math.floorMod(first + i * second, bits);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long mix(long value) {
+        long z = value * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,100 @@
+package com.core.banking.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.core.banking.exception.InvalidCurrencyException;
+import com.core.banking.model.Currencies;
+import com.core.banking.model.RateTable;
+
+@Service
+public class CurrencyConversionService {
+
+    static final String DEFAULT_RATES = "/rates.properties";
+
+    private final Path path;
+    private final RoundingMode roundingMode;
+    private volatile RateTable rates;
+    private volatile FileTime loadedAt;
+
+    @Autowired
+    public CurrencyConversionService(@Value("${banking.rates.path:}") String path,
+                                     @Value("${banking.rates.rounding:HALF_EVEN}") RoundingMode roundingMode) throws IOException {
+        this.path = path.isEmpty() ? null : Paths.get(path);
+        this.roundingMode = roundingMode;
+        if (Objects.isNull(this.path)) {
+            try (InputStream input = CurrencyConversionService.class.getResourceAsStream(DEFAULT_RATES)) {
+                this.rates = RateTable.load(input);
+            }
+        } else {
+            reload();
+        }
+    }
+
+    public CurrencyConversionService(RateTable rates, RoundingMode roundingMode) {
+        this.path = null;
+        this.roundingMode = roundingMode;
+        this.rates = rates;
+    }
+
+    public long convert(long amount, int currencyFrom, int currencyTo) throws InvalidCurrencyException {
+        return convert(amount, currencyFrom, currencyTo, roundingMode);
+    }
+
+    public long convert(long amount, int currencyFrom, int currencyTo, RoundingMode roundingMode) throws InvalidCurrencyException {
+        if (currencyFrom == currencyTo) {
+            return amount;
+        }
+        BigDecimal factor = rates.factor(currencyFrom, currencyTo);
+        if (Objects.isNull(factor)) {
+            throw new InvalidCurrencyException(String.format("Currency conversion (%s to %s) is unsupported", Currencies.isoCode(currencyFrom), Currencies.isoCode(currencyTo)));
+        }
+        return BigDecimal.valueOf(amount).multiply(factor).setScale(0, roundingMode).longValueExact();
+    }
+
+    public RateTable getRates() {
+        return rates;
+    }
+
+    public void update(RateTable rates) {
+        this.rates = rates;
+    }
+
+    @Scheduled(fixedDelayString = "${banking.rates.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (Objects.isNull(path)) {
+            return;
+        }
+        try {
+            if (!Files.getLastModifiedTime(path).equals(loadedAt)) {
+                reload();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void reload() throws IOException {
+        if (Objects.isNull(path)) {
+            return;
+        }
+        FileTime modified = Files.getLastModifiedTime(path);
+        try (InputStream input = Files.newInputStream(path)) {
+            rates = RateTable.load(input);
+        }
+        loadedAt = modified;
+    }
+}
@@ -0,0 +1,41 @@
+package com.core.banking.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.core.banking.model.Account;
+
+public class HeapAccountStore implements AccountStore {
+
+    private final Map<UUID, Account> accounts;
+
+    public HeapAccountStore(Map<UUID, Account> accounts) {
+        this.accounts = accounts;
+    }
+
+    @Override
+    public Optional<Account> findById(UUID id) {
+        return Optional.ofNullable(accounts.get(id));
+    }
+
+    @Override
+    public boolean put(Account account) {
+        return accounts.putIfAbsent(account.getId(), account) == null;
+    }
+
+    @Override
+    public void save(Account account) {
+    }
+
+    @Override
+    public long size() {
+        return accounts.size();
+    }
+
+    @Override
+    public void forEach(Consumer<Account> consumer) {
+        accounts.values().forEach(consumer);
+    }
+}
@@ -0,0 +1,147 @@
+package com.core.banking.service;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.core.banking.dto.TransactionDto;
+
+@Component
+public class IdempotencyCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final long maximumSize;
+    private final long ttl;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @Autowired
+    public IdempotencyCache(@Value("${banking.idempotency.maximum-size:100000}") long maximumSize,
+                            @Value("${banking.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+        this.maximumSize = Math.max(1, maximumSize);
+        this.ttl = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    public Entry putIfAbsent(String key, Entry entry) {
+        long now = System.nanoTime();
+        entry.key = key;
+        entry.ttl = ttl;
+        while (true) {
+            Entry previous = entries.putIfAbsent(key, entry);
+            if (previous == null) {
+                misses.increment();
+                insertionOrder.add(entry);
+                evict(now);
+                return null;
+            }
+            if (!previous.isExpired(now)) {
+                hits.increment();
+                return previous;
+            }
+            if (entries.remove(key, previous)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    public void remove(String key, Entry entry) {
+        entries.remove(key, entry);
+    }
+
+    public long size() {
+        return entries.mappingCount();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private void evict(long now) {
+        long inFlight = 0;
+        long live = entries.mappingCount();
+        while (inFlight < live) {
+            Entry oldest = insertionOrder.peek();
+            if (oldest == null || (!oldest.isExpired(now) && entries.mappingCount() <= maximumSize)) {
+                return;
+            }
+            Entry polled = insertionOrder.poll();
+            if (polled == null) {
+                return;
+            }
+            if (!polled.isDone() && entries.get(polled.key) == polled) {
+                insertionOrder.add(polled);
+                inFlight++;
+                continue;
+            }
+            if (entries.remove(polled.key, polled)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    public static final class Entry {
+
+        private final TransactionDto dto;
+        private final CompletableFuture<Exception> outcome = new CompletableFuture<>();
+        private String key;
+        private long ttl;
+        private volatile long expiresAt;
+
+        public Entry(TransactionDto dto) {
+            this.dto = dto;
+        }
+
+        public TransactionDto getDto() {
+            return dto;
+        }
+
+        public void complete(Exception failure) {
+            expiresAt = System.nanoTime() + ttl;
+            outcome.complete(failure);
+        }
+
+        public void abandon(RuntimeException failure) {
+            expiresAt = System.nanoTime() + ttl;
+            outcome.completeExceptionally(failure);
+        }
+
+        public CompletableFuture<Void> toFuture() {
+            return outcome.thenCompose(failure -> Objects.isNull(failure) ? CompletableFuture.completedFuture(null) : CompletableFuture.failedFuture(failure));
+        }
+
+        public Exception await() {
+            try {
+                return outcome.join();
+            } catch (CompletionException e) {
+                throw (RuntimeException) e.getCause();
+            }
+        }
+
+        private boolean isDone() {
+            return outcome.isDone();
+        }
+
+        private boolean isExpired(long now) {
+            return outcome.isDone() && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.core.banking.service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.core.banking.model.Account;
+import com.core.banking.model.TransactionCursor;
+
+public class OffHeapAccountStore implements AccountStore {
+
+    static final int SLOT_SIZE = 48;
+
+    private static final int SEGMENT_SHIFT = 20;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+    private static final int USED = 1;
+
+    private static final int MSB_OFFSET = 0;
+    private static final int LSB_OFFSET = 8;
+    private static final int BALANCE_OFFSET = 16;
+    private static final int CREATED_AT_OFFSET = 24;
+    private static final int CURRENCY_OFFSET = 32;
+    private static final int STATE_OFFSET = 36;
+    private static final int OPENING_OFFSET = 40;
+
+    private static final VarHandle STATE = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final VarHandle BALANCE = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private volatile Table[] tables;
+    private volatile long size;
+
+    public OffHeapAccountStore(long capacity) {
+        this.tables = new Table[] {new Table(Math.max(1, capacity))};
+    }
+
+    @Override
+    public Optional<Account> findById(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        for (Table table : tables) {
+            long slot = table.find(msb, lsb);
+            if (slot >= 0) {
+                return Optional.of(table.account(id, slot));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized boolean put(Account account) {
+        long msb = account.getId().getMostSignificantBits();
+        long lsb = account.getId().getLeastSignificantBits();
+        Table[] current = tables;
+        for (Table table : current) {
+            if (table.find(msb, lsb) >= 0) {
+                return false;
+            }
+        }
+        Table last = current[current.length - 1];
+        if (last.size >= last.capacity) {
+            last = new Table(last.capacity * 2);
+            Table[] grown = Arrays.copyOf(current, current.length + 1);
+            grown[current.length] = last;
+            tables = grown;
+        }
+        last.insert(account, msb, lsb);
+        size = size + 1;
+        return true;
+    }
+
+    @Override
+    public void save(Account account) {
+        long msb = account.getId().getMostSignificantBits();
+        long lsb = account.getId().getLeastSignificantBits();
+        for (Table table : tables) {
+            long slot = table.find(msb, lsb);
+            if (slot >= 0) {
+                BALANCE.setRelease(table.segment(slot), table.offset(slot) + BALANCE_OFFSET, account.getBalanceMinorUnits());
+                table.segment(slot).putLong(table.offset(slot) + OPENING_OFFSET, account.getOpeningBalanceMinorUnits());
+                return;
+            }
+        }
+        throw new IllegalStateException("account not stored: " + account.getId());
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void forEach(Consumer<Account> consumer) {
+        for (Table table : tables) {
+            table.forEach(consumer);
+        }
+    }
+
+    public long capacity() {
+        return Arrays.stream(tables).mapToLong(table -> table.capacity).sum();
+    }
+
+    public long memoryUsage() {
+        return Arrays.stream(tables).mapToLong(table -> table.slots * SLOT_SIZE).sum();
+    }
+
+    private static final class Table {
+
+        private final ByteBuffer[] segments;
+        private final long slots;
+        private final long capacity;
+        private long size;
+
+        Table(long capacity) {
+            this.capacity = capacity;
+            this.slots = Math.max(16, (capacity * 4 + 2) / 3);
+            int count = (int) ((slots + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            this.segments = new ByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long remaining = Math.min(SEGMENT_MASK + 1L, slots - ((long) i << SEGMENT_SHIFT));
+                this.segments[i] = ByteBuffer.allocateDirect((int) remaining * SLOT_SIZE).order(ByteOrder.nativeOrder());
+            }
+        }
+
+        void insert(Account account, long msb, long lsb) {
+            long slot = home(msb, lsb);
+            while ((int) STATE.getAcquire(segment(slot), offset(slot) + STATE_OFFSET) == USED) {
+                slot = next(slot);
+            }
+            ByteBuffer segment = segment(slot);
+            int offset = offset(slot);
+            segment.putLong(offset + MSB_OFFSET, msb);
+            segment.putLong(offset + LSB_OFFSET, lsb);
+            BALANCE.setRelease(segment, offset + BALANCE_OFFSET, account.getBalanceMinorUnits());
+            segment.putLong(offset + CREATED_AT_OFFSET, TransactionCursor.toEpochNanos(account.getCreatedAt().toInstant()));
+            segment.putInt(offset + CURRENCY_OFFSET, account.getCurrencyCode());
+            segment.putLong(offset + OPENING_OFFSET, account.getOpeningBalanceMinorUnits());
+            STATE.setRelease(segment, offset + STATE_OFFSET, USED);
+            size++;
+        }
+
+        long find(long msb, long lsb) {
+            long slot = home(msb, lsb);
+            while (true) {
+                ByteBuffer segment = segment(slot);
+                int offset = offset(slot);
+                if ((int) STATE.getAcquire(segment, offset + STATE_OFFSET) != USED) {
+                    return -1;
+                }
+                if (segment.getLong(offset + MSB_OFFSET) == msb && segment.getLong(offset + LSB_OFFSET) == lsb) {
+                    return slot;
+                }
+                slot = next(slot);
+            }
+        }
+
+        void forEach(Consumer<Account> consumer) {
+            for (long slot = 0; slot < slots; slot++) {
+                ByteBuffer segment = segment(slot);
+                int offset = offset(slot);
+                if ((int) STATE.getAcquire(segment, offset + STATE_OFFSET) == USED) {
+                    consumer.accept(account(new UUID(segment.getLong(offset + MSB_OFFSET), segment.getLong(offset + LSB_OFFSET)), slot));
+                }
+            }
+        }
+
+        Account account(UUID id, long slot) {
+            ByteBuffer segment = segment(slot);
+            int offset = offset(slot);
+            return new Account(id,
+                    (long) BALANCE.getAcquire(segment, offset + BALANCE_OFFSET),
+                    segment.getLong(offset + OPENING_OFFSET),
+                    segment.getInt(offset + CURRENCY_OFFSET),
+                    timestamp(segment.getLong(offset + CREATED_AT_OFFSET)));
+        }
+
+        private Timestamp timestamp(long epochNanos) {
+            return Timestamp.from(Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), Math.floorMod(epochNanos, 1_000_000_000L)));
+        }
+
+        private long home(long msb, long lsb) {
+            long hash = (msb ^ Long.rotateLeft(lsb, 32)) * 0x9E3779B97F4A7C15L;
+            return ((hash >>> 32) * slots) >>> 32;
+        }
+
+        private long next(long slot) {
+            return slot + 1 == slots ? 0 : slot + 1;
+        }
+
+        private ByteBuffer segment(long slot) {
+            return segments[(int) (slot >>> SEGMENT_SHIFT)];
+        }
+
+        private int offset(long slot) {
+            return (int) (slot & SEGMENT_MASK) * SLOT_SIZE;
+        }
+    }
+}
@@ -0,0 +1,594 @@
+package com.core.banking.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongBiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.core.banking.codec.BinaryCodec;
+import com.core.banking.dto.TransactionFilter;
+import com.core.banking.exception.InvalidAmountException;
+import com.core.banking.exception.InvalidCurrencyException;
+import com.core.banking.model.Currencies;
+import com.core.banking.model.Money;
+import com.core.banking.model.Transaction;
+import com.core.banking.model.TransactionCursor;
+
+@Component
+public class TransactionArchive {
+
+    static final int HEADER_SIZE = 44;
+    static final int ROW_SIZE = 59;
+    static final int TRAILER_SIZE = 8;
+    static final int INDEX_BLOCK = 64;
+
+    private static final int MAGIC = 0x54584E41;
+    private static final int VERSION = 3;
+    private static final int UNPOSTED_VERSION = 2;
+    private static final String PREFIX = "transactions-";
+    private static final String SUFFIX = ".archive";
+    private static final Transaction.Status[] STATUSES = Transaction.Status.values();
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long bucketNanos;
+    private final int hotBuckets;
+    private volatile List<Bucket> buckets = List.of();
+    private final Map<Long, Segment> segments;
+    private final LongAdder diskReads = new LongAdder();
+    private volatile long watermark = Long.MIN_VALUE;
+
+    @Autowired
+    public TransactionArchive(@Value("${banking.archive.enabled:false}") boolean enabled,
+                              @Value("${banking.archive.directory:data/archive}") String directory,
+                              @Value("${banking.archive.bucket-ms:3600000}") long bucketMillis,
+                              @Value("${banking.archive.hot-buckets:2}") int hotBuckets,
+                              @Value("${banking.archive.cache-buckets:4}") int cacheBuckets) {
+        this.enabled = enabled;
+        this.directory = enabled ? Paths.get(directory) : null;
+        this.bucketNanos = Math.max(1, bucketMillis) * 1_000_000L;
+        this.hotBuckets = Math.max(1, hotBuckets);
+        this.segments = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Segment> eldest) {
+                return size() > Math.max(1, cacheBuckets);
+            }
+        };
+        if (enabled && Files.isDirectory(this.directory)) {
+            load();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long watermark() {
+        return watermark;
+    }
+
+    public int bucketCount() {
+        return buckets.size();
+    }
+
+    public long getDiskReads() {
+        return diskReads.sum();
+    }
+
+    public long size() {
+        return buckets.stream().mapToLong(bucket -> bucket.count).sum();
+    }
+
+    public long cutoff(Instant now) {
+        return bucketOf(TransactionCursor.toEpochNanos(now)) - (hotBuckets - 1) * bucketNanos;
+    }
+
+    public long bucketOf(long createdAt) {
+        return Math.floorDiv(createdAt, bucketNanos) * bucketNanos;
+    }
+
+    public synchronized void archive(Collection<Transaction> transactions, long cutoff) throws IOException {
+        Map<Long, List<Transaction>> grouped = new TreeMap<>();
+        for (Transaction transaction : transactions) {
+            long createdAt = TransactionCursor.toEpochNanos(transaction.getCreatedAt().toInstant());
+            if (createdAt >= cutoff) {
+                throw new IllegalArgumentException("transaction is not older than the archive cutoff: " + transaction.getId());
+            }
+            grouped.computeIfAbsent(bucketOf(createdAt), start -> new ArrayList<>()).add(transaction);
+        }
+        for (Map.Entry<Long, List<Transaction>> entry : grouped.entrySet()) {
+            register(write(entry.getKey(), entry.getValue()));
+        }
+        if (cutoff > watermark) {
+            watermark = cutoff;
+        }
+    }
+
+    public Optional<Transaction> findById(UUID id) {
+        long limit = watermark;
+        List<Bucket> snapshot = buckets;
+        for (int i = snapshot.size() - 1; i >= 0; i--) {
+            Bucket bucket = snapshot.get(i);
+            if (bucket.end > limit || !bucket.bloomFilter.mightContain(id)) {
+                continue;
+            }
+            Optional<Transaction> transaction = lookup(bucket, id);
+            if (transaction.isPresent()) {
+                return transaction;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean scan(TransactionFilter filter, TransactionCursor after, long limit, BiPredicate<TransactionCursor, Transaction> visitor) {
+        long from = Objects.nonNull(filter.getFrom()) ? TransactionCursor.toEpochNanos(filter.getFrom()) : Long.MIN_VALUE;
+        long lower = Objects.nonNull(after) ? Math.max(from, after.getCreatedAt()) : from;
+        for (Bucket bucket : buckets) {
+            if (bucket.end > limit) {
+                return true;
+            }
+            if (bucket.end <= lower) {
+                continue;
+            }
+            if (Objects.nonNull(filter.getTo()) && bucket.start >= TransactionCursor.toEpochNanos(filter.getTo())) {
+                return false;
+            }
+            Segment segment = segment(bucket);
+            int account = -1;
+            if (Objects.nonNull(filter.getAccountId())) {
+                account = segment.accountIndex.getOrDefault(filter.getAccountId(), -1);
+                if (account < 0) {
+                    continue;
+                }
+            }
+            for (int row = segment.lowerBound(lower); row < segment.count; row++) {
+                TransactionCursor cursor = segment.cursor(row);
+                if (Objects.nonNull(after) && cursor.compareTo(after) <= 0) {
+                    continue;
+                }
+                if (filter.isPastEnd(cursor)) {
+                    return false;
+                }
+                if (account >= 0 && segment.source[row] != account && segment.target[row] != account) {
+                    continue;
+                }
+                if (Objects.nonNull(filter.getStatus()) && segment.status[row] != filter.getStatus().ordinal()) {
+                    continue;
+                }
+                if (!visitor.test(cursor, segment.transaction(row))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public List<Supplier<AccountTotals>> totals(int partitions, ToLongBiFunction<Transaction, UUID> convert) {
+        List<Bucket> snapshot = buckets;
+        List<Supplier<AccountTotals>> tasks = new ArrayList<>(snapshot.size());
+        for (Bucket bucket : snapshot) {
+            tasks.add(() -> totals(bucket, partitions, convert));
+        }
+        return tasks;
+    }
+
+    private AccountTotals totals(Bucket bucket, int partitions, ToLongBiFunction<Transaction, UUID> convert) {
+        Segment segment;
+        try {
+            segment = decode(bucket.file, ByteBuffer.wrap(Files.readAllBytes(bucket.file)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long[] net = new long[segment.accounts.length];
+        long transactions = 0;
+        int success = Transaction.Status.SUCCESS.ordinal();
+        for (int row = 0; row < segment.count; row++) {
+            if (segment.status[row] != success) {
+                continue;
+            }
+            int source = segment.source[row];
+            int target = segment.target[row];
+            long debit = segment.debit[row] >= 0 ? segment.debit[row] : convert.applyAsLong(segment.transaction(row), segment.accounts[source]);
+            long credit = segment.credit[row] >= 0 ? segment.credit[row] : convert.applyAsLong(segment.transaction(row), segment.accounts[target]);
+            net[source] = Money.subtract(net[source], debit);
+            net[target] = Money.add(net[target], credit);
+            transactions++;
+        }
+        return new AccountTotals(segment.accounts, net, transactions, partitions);
+    }
+
+    private Bucket write(long start, List<Transaction> transactions) throws IOException {
+        Path file = directory.resolve(PREFIX + start + SUFFIX);
+        Map<UUID, Transaction> rows = new HashMap<>();
+        if (Files.exists(file)) {
+            Segment existing = decode(file, ByteBuffer.wrap(Files.readAllBytes(file)));
+            for (int row = 0; row < existing.count; row++) {
+                rows.put(new UUID(existing.idMsb[row], existing.idLsb[row]), existing.transaction(row));
+            }
+        }
+        transactions.forEach(transaction -> rows.put(transaction.getId(), transaction));
+        List<Transaction> sorted = rows.values().stream()
+                .sorted(Comparator.comparing(TransactionCursor::of))
+                .collect(Collectors.toList());
+
+        Map<UUID, Integer> accounts = new LinkedHashMap<>();
+        for (Transaction transaction : sorted) {
+            accounts.putIfAbsent(transaction.getSourceAccountId(), accounts.size());
+            accounts.putIfAbsent(transaction.getTargetAccountId(), accounts.size());
+        }
+        int count = sorted.size();
+        ByteBuffer body = ByteBuffer.allocate(accounts.size() * 16 + count * ROW_SIZE);
+        for (UUID account : accounts.keySet()) {
+            body.putLong(account.getMostSignificantBits());
+            body.putLong(account.getLeastSignificantBits());
+        }
+        long previous = start;
+        for (Transaction transaction : sorted) {
+            long createdAt = TransactionCursor.toEpochNanos(transaction.getCreatedAt().toInstant());
+            body.putLong(createdAt - previous);
+            previous = createdAt;
+        }
+        sorted.forEach(transaction -> body.putLong(transaction.getId().getMostSignificantBits()));
+        sorted.forEach(transaction -> body.putLong(transaction.getId().getLeastSignificantBits()));
+        sorted.forEach(transaction -> body.putInt(accounts.get(transaction.getSourceAccountId())));
+        sorted.forEach(transaction -> body.putInt(accounts.get(transaction.getTargetAccountId())));
+        sorted.forEach(transaction -> body.putLong(transaction.getAmountMinorUnits()));
+        sorted.forEach(transaction -> body.putLong(transaction.getDebitMinorUnits()));
+        sorted.forEach(transaction -> body.putLong(transaction.getCreditMinorUnits()));
+        sorted.forEach(transaction -> body.putShort((short) Currencies.numericCode(transaction.getCurrencyCode())));
+        sorted.forEach(transaction -> body.put((byte) transaction.getStatus().ordinal()));
+
+        Deflater deflater = new Deflater();
+        deflater.setInput(body.array());
+        deflater.finish();
+        ByteBuffer compressed = ByteBuffer.allocate(body.capacity() + 64);
+        while (!deflater.finished()) {
+            if (!compressed.hasRemaining()) {
+                compressed = ByteBuffer.allocate(compressed.capacity() * 2).put(compressed.flip());
+            }
+            compressed.position(compressed.position() + deflater.deflate(compressed.array(), compressed.position(), compressed.remaining()));
+        }
+        deflater.end();
+        compressed.flip();
+
+        BloomFilter bloomFilter = new BloomFilter(count);
+        sorted.forEach(transaction -> bloomFilter.add(transaction.getId()));
+        List<Transaction> byId = new ArrayList<>(sorted);
+        byId.sort(Comparator.comparing(Transaction::getId));
+
+        ByteBuffer encoded = ByteBuffer.allocate(HEADER_SIZE + compressed.remaining() + bloomFilter.words().length * 8 + count * BinaryCodec.TRANSACTION_SIZE + TRAILER_SIZE);
+        encoded.putInt(MAGIC);
+        encoded.putInt(VERSION);
+        encoded.putLong(start);
+        encoded.putLong(start + bucketNanos);
+        encoded.putInt(count);
+        encoded.putInt(accounts.size());
+        encoded.putInt(body.capacity());
+        encoded.putInt(compressed.remaining());
+        encoded.putInt(bloomFilter.words().length);
+        encoded.put(compressed);
+        for (long word : bloomFilter.words()) {
+            encoded.putLong(word);
+        }
+        byId.forEach(transaction -> BinaryCodec.encode(transaction, encoded));
+        CRC32 crc = new CRC32();
+        crc.update(encoded.array(), 0, encoded.position());
+        encoded.putLong(crc.getValue());
+        encoded.flip();
+
+        Files.createDirectories(directory);
+        Path temporary = directory.resolve(PREFIX + start + SUFFIX + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (encoded.hasRemaining()) {
+                channel.write(encoded);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        synchronized (segments) {
+            segments.remove(start);
+        }
+        return bucket(file, encoded);
+    }
+
+    private void register(Bucket bucket) {
+        List<Bucket> updated = new ArrayList<>(buckets);
+        updated.removeIf(existing -> existing.start == bucket.start);
+        updated.add(bucket);
+        updated.sort(Comparator.comparingLong(existing -> existing.start));
+        buckets = List.copyOf(updated);
+    }
+
+    private void load() {
+        List<Bucket> loaded = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> archives = files.filter(file -> file.getFileName().toString().startsWith(PREFIX) && file.getFileName().toString().endsWith(SUFFIX))
+                    .collect(Collectors.toList());
+            for (Path file : archives) {
+                ByteBuffer encoded = ByteBuffer.wrap(Files.readAllBytes(file));
+                decode(file, encoded);
+                Bucket bucket = bucket(file, encoded);
+                loaded.add(bucket);
+                watermark = Math.max(watermark, bucket.end);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        loaded.sort(Comparator.comparingLong(bucket -> bucket.start));
+        buckets = List.copyOf(loaded);
+    }
+
+    private static Bucket bucket(Path file, ByteBuffer encoded) {
+        long start = encoded.getLong(8);
+        long end = encoded.getLong(16);
+        int count = encoded.getInt(24);
+        int compressedLength = encoded.getInt(36);
+        long[] words = new long[encoded.getInt(40)];
+        int position = HEADER_SIZE + compressedLength;
+        for (int i = 0; i < words.length; i++) {
+            words[i] = encoded.getLong(position + i * 8);
+        }
+        long indexOffset = position + words.length * 8L;
+        UUID[] sparseIndex = new UUID[(count + INDEX_BLOCK - 1) / INDEX_BLOCK];
+        for (int block = 0; block < sparseIndex.length; block++) {
+            int offset = (int) indexOffset + block * INDEX_BLOCK * BinaryCodec.TRANSACTION_SIZE;
+            sparseIndex[block] = new UUID(encoded.getLong(offset), encoded.getLong(offset + 8));
+        }
+        return new Bucket(start, end, count, file, new BloomFilter(words), sparseIndex, indexOffset);
+    }
+
+    private Optional<Transaction> lookup(Bucket bucket, UUID id) {
+        int low = 0;
+        int high = bucket.sparseIndex.length - 1;
+        int block = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (bucket.sparseIndex[middle].compareTo(id) <= 0) {
+                block = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        if (block < 0) {
+            return Optional.empty();
+        }
+        int records = Math.min(INDEX_BLOCK, bucket.count - block * INDEX_BLOCK);
+        ByteBuffer buffer = ByteBuffer.allocate(records * BinaryCodec.TRANSACTION_SIZE);
+        try (FileChannel channel = FileChannel.open(bucket.file, StandardOpenOption.READ)) {
+            long position = bucket.indexOffset + (long) block * INDEX_BLOCK * BinaryCodec.TRANSACTION_SIZE;
+            while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+                continue;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        diskReads.increment();
+        low = 0;
+        high = records - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int offset = middle * BinaryCodec.TRANSACTION_SIZE;
+            int compared = new UUID(buffer.getLong(offset), buffer.getLong(offset + 8)).compareTo(id);
+            if (compared == 0) {
+                return Optional.of(BinaryCodec.decodeTransaction(buffer.position(offset)));
+            }
+            if (compared < 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Segment segment(Bucket bucket) {
+        synchronized (segments) {
+            Segment segment = segments.get(bucket.start);
+            if (Objects.nonNull(segment)) {
+                return segment;
+            }
+        }
+        Segment segment;
+        try {
+            segment = decode(bucket.file, ByteBuffer.wrap(Files.readAllBytes(bucket.file)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        synchronized (segments) {
+            segments.put(bucket.start, segment);
+        }
+        return segment;
+    }
+
+    private static Segment decode(Path file, ByteBuffer encoded) throws IOException {
+        int size = encoded.capacity();
+        if (size < HEADER_SIZE + TRAILER_SIZE) {
+            throw new IOException("archive is truncated: " + file);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(encoded.array(), 0, size - TRAILER_SIZE);
+        if (encoded.getLong(size - TRAILER_SIZE) != crc.getValue()) {
+            throw new IOException("archive checksum does not match: " + file);
+        }
+        int version = encoded.getInt(4);
+        if (encoded.getInt(0) != MAGIC || (version != VERSION && version != UNPOSTED_VERSION)) {
+            throw new IOException("archive header is invalid: " + file);
+        }
+        long start = encoded.getLong(8);
+        int count = encoded.getInt(24);
+        int accounts = encoded.getInt(28);
+        int length = encoded.getInt(32);
+        int compressedLength = encoded.getInt(36);
+        int words = encoded.getInt(40);
+        if ((long) HEADER_SIZE + compressedLength + words * 8L + (long) count * BinaryCodec.TRANSACTION_SIZE + TRAILER_SIZE != size) {
+            throw new IOException("archive sections are inconsistent: " + file);
+        }
+
+        byte[] body = new byte[length];
+        Inflater inflater = new Inflater();
+        inflater.setInput(encoded.array(), HEADER_SIZE, compressedLength);
+        try {
+            if (inflater.inflate(body) != length || !inflater.finished()) {
+                throw new IOException("archive body is truncated: " + file);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("archive body is invalid: " + file, e);
+        } finally {
+            inflater.end();
+        }
+        return new Segment(ByteBuffer.wrap(body), start, count, accounts, version != UNPOSTED_VERSION);
+    }
+
+    private static final class Bucket {
+
+        private final long start;
+        private final long end;
+        private final int count;
+        private final Path file;
+        private final BloomFilter bloomFilter;
+        private final UUID[] sparseIndex;
+        private final long indexOffset;
+
+        private Bucket(long start, long end, int count, Path file, BloomFilter bloomFilter, UUID[] sparseIndex, long indexOffset) {
+            this.start = start;
+            this.end = end;
+            this.count = count;
+            this.file = file;
+            this.bloomFilter = bloomFilter;
+            this.sparseIndex = sparseIndex;
+            this.indexOffset = indexOffset;
+        }
+    }
+
+    private static final class Segment {
+
+        private final int count;
+        private final UUID[] accounts;
+        private final Map<UUID, Integer> accountIndex;
+        private final long[] createdAt;
+        private final long[] idMsb;
+        private final long[] idLsb;
+        private final int[] source;
+        private final int[] target;
+        private final long[] amount;
+        private final long[] debit;
+        private final long[] credit;
+        private final short[] currency;
+        private final byte[] status;
+
+        private Segment(ByteBuffer body, long start, int count, int accounts, boolean posted) {
+            this.count = count;
+            this.accounts = new UUID[accounts];
+            this.accountIndex = new HashMap<>(accounts * 2);
+            for (int i = 0; i < accounts; i++) {
+                this.accounts[i] = new UUID(body.getLong(), body.getLong());
+                this.accountIndex.put(this.accounts[i], i);
+            }
+            this.createdAt = new long[count];
+            long previous = start;
+            for (int row = 0; row < count; row++) {
+                previous += body.getLong();
+                this.createdAt[row] = previous;
+            }
+            this.idMsb = longs(body, count);
+            this.idLsb = longs(body, count);
+            this.source = ints(body, count);
+            this.target = ints(body, count);
+            this.amount = longs(body, count);
+            this.debit = posted ? longs(body, count) : unknown(count);
+            this.credit = posted ? longs(body, count) : unknown(count);
+            this.currency = new short[count];
+            body.asShortBuffer().get(this.currency);
+            body.position(body.position() + count * 2);
+            this.status = new byte[count];
+            body.get(this.status);
+        }
+
+        private int lowerBound(long from) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (createdAt[middle] < from) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private TransactionCursor cursor(int row) {
+            return new TransactionCursor(createdAt[row], new UUID(idMsb[row], idLsb[row]));
+        }
+
+        private Transaction transaction(int row) {
+            UUID id = new UUID(idMsb[row], idLsb[row]);
+            int code = Currencies.codeOfNumeric(currency[row]);
+            try {
+                Transaction transaction = new Transaction(id, accounts[source[row]], accounts[target[row]], Money.toDecimal(amount[row], code), Currencies.isoCode(code),
+                        Timestamp.from(Instant.ofEpochSecond(Math.floorDiv(createdAt[row], 1_000_000_000L), Math.floorMod(createdAt[row], 1_000_000_000L))));
+                transaction.setStatus(status[row] < 0 ? Transaction.Status.FAIL : STATUSES[status[row]]);
+                transaction.postDebit(debit[row], 0);
+                transaction.postCredit(credit[row], 0);
+                return transaction;
+            } catch (InvalidAmountException | InvalidCurrencyException e) {
+                throw new IllegalStateException("archived transaction is invalid: " + id, e);
+            }
+        }
+
+        private static long[] unknown(int count) {
+            long[] values = new long[count];
+            Arrays.fill(values, -1);
+            return values;
+        }
+
+        private static long[] longs(ByteBuffer body, int count) {
+            long[] values = new long[count];
+            body.asLongBuffer().get(values);
+            body.position(body.position() + count * 8);
+            return values;
+        }
+
+        private static int[] ints(ByteBuffer body, int count) {
+            int[] values = new int[count];
+            body.asIntBuffer().get(values);
+            body.position(body.position() + count * 4);
+            return values;
+        }
+    }
+}
@@ -0,0 +1,469 @@
+package com.core.banking.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.core.banking.model.Account;
+import com.core.banking.model.Currencies;
+import com.core.banking.model.Money;
+import com.core.banking.model.Transaction;
+
+@Component
+public class TransactionJournal {
+
+    public static final int RECORD_SIZE = 96;
+
+    static final byte TRANSFER = 1;
+    static final byte ACCOUNT_OPEN = 2;
+
+    private static final int MAGIC = 0x4A524E4C;
+    private static final int CHECKSUM_OFFSET = 88;
+    private static final int MAGIC_OFFSET = 92;
+
+    private final boolean enabled;
+    private final FileChannel channel;
+    private final long regionSize;
+    private final List<MappedByteBuffer> regions = new CopyOnWriteArrayList<>();
+    private final ByteBuffer scratch = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition pending = flushLock.newCondition();
+    private final Condition flushed = flushLock.newCondition();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    private final Thread flusher;
+
+    private volatile long written;
+    private volatile long durable;
+    private volatile boolean running = true;
+    private volatile IOException failure;
+
+    @Autowired
+    public TransactionJournal(@Value("${banking.journal.enabled:false}") boolean enabled,
+                              @Value("${banking.journal.path:data/transactions.journal}") String path,
+                              @Value("${banking.journal.region-size:67108864}") long regionSize) throws IOException {
+        this.enabled = enabled;
+        this.regionSize = Math.max(1, regionSize / RECORD_SIZE) * RECORD_SIZE;
+        if (!enabled) {
+            this.channel = null;
+            this.flusher = null;
+            return;
+        }
+        Path file = Paths.get(path);
+        if (file.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        recover();
+        this.flusher = new Thread(this::flushLoop, "journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long size() {
+        return written;
+    }
+
+    public long durableSize() {
+        return durable;
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    public long append(Transaction transaction, long debit, long credit) {
+        if (!enabled) {
+            return -1;
+        }
+        return append(TRANSFER, transaction.getId(), transaction.getSourceAccountId(), transaction.getTargetAccountId(),
+                transaction.getAmountMinorUnits(), debit, credit, transaction.getCreatedAt().toInstant(), transaction.getCurrency());
+    }
+
+    public long append(Account account) {
+        if (!enabled) {
+            return -1;
+        }
+        UUID none = new UUID(0, 0);
+        return append(ACCOUNT_OPEN, none, account.getId(), none,
+                account.getBalanceMinorUnits(), 0, account.getBalanceMinorUnits(), account.getCreatedAt().toInstant(), account.getCurrency());
+    }
+
+    private synchronized long append(byte type, UUID id, UUID sourceAccountId, UUID targetAccountId, long amount, long debit, long credit, Instant createdAt, String currency) {
+        if (failure != null) {
+            throw new UncheckedIOException("journal flush failed", failure);
+        }
+        long sequence = written;
+        scratch.clear();
+        scratch.putLong(id.getMostSignificantBits());
+        scratch.putLong(id.getLeastSignificantBits());
+        scratch.putLong(sourceAccountId.getMostSignificantBits());
+        scratch.putLong(sourceAccountId.getLeastSignificantBits());
+        scratch.putLong(targetAccountId.getMostSignificantBits());
+        scratch.putLong(targetAccountId.getLeastSignificantBits());
+        scratch.putLong(amount);
+        scratch.putLong(debit);
+        scratch.putLong(credit);
+        scratch.putLong(createdAt.getEpochSecond() * 1_000_000_000L + createdAt.getNano());
+        scratch.put(currency.getBytes(StandardCharsets.US_ASCII), 0, 3);
+        scratch.putShort((short) 0);
+        scratch.put((byte) 0);
+        scratch.put(type);
+        scratch.put((byte) 0);
+        crc.reset();
+        crc.update(scratch.array(), 0, CHECKSUM_OFFSET);
+        scratch.putInt((int) crc.getValue());
+        scratch.putInt(MAGIC);
+        scratch.flip();
+
+        MappedByteBuffer region = region(sequence);
+        region.position(offsetInRegion(sequence));
+        region.put(scratch);
+        written = sequence + 1;
+        return sequence;
+    }
+
+    public void awaitDurable(long sequence) {
+        if (sequence < 0) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            pending.signal();
+            while (durable <= sequence && failure == null) {
+                flushed.awaitUninterruptibly();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+        if (durable <= sequence) {
+            throw new UncheckedIOException("journal flush failed", failure);
+        }
+    }
+
+    public CompletableFuture<Void> whenDurable(long sequence) {
+        if (sequence < durable) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Waiter waiter = new Waiter(sequence);
+        flushLock.lock();
+        try {
+            if (durable > sequence) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (failure != null) {
+                return CompletableFuture.failedFuture(new UncheckedIOException("journal flush failed", failure));
+            }
+            waiters.add(waiter);
+            pending.signal();
+        } finally {
+            flushLock.unlock();
+        }
+        return waiter.future;
+    }
+
+    public void replay(Consumer<Entry> consumer) {
+        replay(0, written, consumer);
+    }
+
+    public void replay(long from, long to, Consumer<Entry> consumer) {
+        for (long sequence = Math.max(0, from); sequence < Math.min(to, durable); sequence++) {
+            consumer.accept(read(sequence));
+        }
+    }
+
+    public long replayWhile(long from, long to, Predicate<Entry> consumer) {
+        long sequence = Math.max(0, from);
+        while (sequence < Math.min(to, durable) && consumer.test(read(sequence))) {
+            sequence++;
+        }
+        return sequence;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        flushLock.lock();
+        try {
+            pending.signal();
+        } finally {
+            flushLock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            for (MappedByteBuffer region : regions) {
+                region.force();
+            }
+        }
+        channel.close();
+    }
+
+    private void flushLoop() {
+        while (true) {
+            long target;
+            flushLock.lock();
+            try {
+                while (running && written == durable) {
+                    pending.awaitUninterruptibly();
+                }
+                target = written;
+            } finally {
+                flushLock.unlock();
+            }
+            if (target == durable) {
+                return;
+            }
+            try {
+                for (MappedByteBuffer region : dirtyRegions(durable, target)) {
+                    force(region);
+                }
+            } catch (RuntimeException e) {
+                failure = new IOException(e);
+                discardUndurable();
+            }
+            List<Waiter> completed = new ArrayList<>();
+            flushLock.lock();
+            try {
+                if (failure == null) {
+                    durable = target;
+                }
+                flushed.signalAll();
+                while (!waiters.isEmpty() && (failure != null || waiters.peek().sequence < durable)) {
+                    completed.add(waiters.poll());
+                }
+            } finally {
+                flushLock.unlock();
+            }
+            for (Waiter waiter : completed) {
+                if (failure == null) {
+                    waiter.future.complete(null);
+                } else {
+                    waiter.future.completeExceptionally(new UncheckedIOException("journal flush failed", failure));
+                }
+            }
+            if (failure != null) {
+                return;
+            }
+        }
+    }
+
+    private synchronized void discardUndurable() {
+        for (long sequence = durable; sequence < written; sequence++) {
+            region(sequence).putInt(offsetInRegion(sequence) + MAGIC_OFFSET, 0);
+        }
+        written = durable;
+    }
+
+    void force(MappedByteBuffer region) {
+        region.force();
+    }
+
+    private synchronized List<MappedByteBuffer> dirtyRegions(long from, long to) {
+        int first = (int) (from * RECORD_SIZE / regionSize);
+        int last = (int) ((to - 1) * RECORD_SIZE / regionSize);
+        return new ArrayList<>(regions.subList(first, last + 1));
+    }
+
+    private void recover() throws IOException {
+        long sequence = 0;
+        while (sequence * RECORD_SIZE < channel.size() && isValid(region(sequence), offsetInRegion(sequence))) {
+            sequence++;
+        }
+        written = sequence;
+        durable = sequence;
+
+        MappedByteBuffer tail = region(sequence);
+        for (int offset = offsetInRegion(sequence); offset < regionSize; offset++) {
+            if (tail.get(offset) != 0) {
+                tail.put(offset, (byte) 0);
+            }
+        }
+        tail.force();
+        channel.truncate((sequence * RECORD_SIZE / regionSize + 1) * regionSize);
+    }
+
+    private boolean isValid(MappedByteBuffer region, int offset) {
+        if (region.getInt(offset + MAGIC_OFFSET) != MAGIC) {
+            return false;
+        }
+        ByteBuffer record = region.duplicate();
+        record.position(offset);
+        record.get(scratch.array(), 0, CHECKSUM_OFFSET);
+        crc.reset();
+        crc.update(scratch.array(), 0, CHECKSUM_OFFSET);
+        return region.getInt(offset + CHECKSUM_OFFSET) == (int) crc.getValue();
+    }
+
+    private Entry read(long sequence) {
+        MappedByteBuffer region = region(sequence);
+        int offset = offsetInRegion(sequence);
+        byte[] currency = new byte[3];
+        for (int i = 0; i < currency.length; i++) {
+            currency[i] = region.get(offset + 80 + i);
+        }
+        long createdAt = region.getLong(offset + 72);
+        return new Entry(
+                sequence,
+                region.get(offset + 86),
+                new UUID(region.getLong(offset), region.getLong(offset + 8)),
+                new UUID(region.getLong(offset + 16), region.getLong(offset + 24)),
+                new UUID(region.getLong(offset + 32), region.getLong(offset + 40)),
+                region.getLong(offset + 48),
+                region.getLong(offset + 56),
+                region.getLong(offset + 64),
+                new String(currency, StandardCharsets.US_ASCII),
+                Timestamp.from(Instant.ofEpochSecond(Math.floorDiv(createdAt, 1_000_000_000L), Math.floorMod(createdAt, 1_000_000_000L))));
+    }
+
+    private MappedByteBuffer region(long sequence) {
+        int index = (int) (sequence * RECORD_SIZE / regionSize);
+        if (index < regions.size()) {
+            return regions.get(index);
+        }
+        return map(index);
+    }
+
+    private synchronized MappedByteBuffer map(int index) {
+        try {
+            while (regions.size() <= index) {
+                regions.add(channel.map(FileChannel.MapMode.READ_WRITE, regions.size() * regionSize, regionSize));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return regions.get(index);
+    }
+
+    private int offsetInRegion(long sequence) {
+        return (int) (sequence * RECORD_SIZE % regionSize);
+    }
+
+    private static final class Waiter implements Comparable<Waiter> {
+
+        private final long sequence;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Waiter(long sequence) {
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Waiter other) {
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+
+    public static final class Entry {
+
+        private final long sequence;
+        private final byte type;
+        private final UUID transactionId;
+        private final UUID sourceAccountId;
+        private final UUID targetAccountId;
+        private final long amount;
+        private final long debit;
+        private final long credit;
+        private final String currency;
+        private final Timestamp createdAt;
+
+        Entry(long sequence, byte type, UUID transactionId, UUID sourceAccountId, UUID targetAccountId, long amount, long debit, long credit, String currency, Timestamp createdAt) {
+            this.sequence = sequence;
+            this.type = type;
+            this.transactionId = transactionId;
+            this.sourceAccountId = sourceAccountId;
+            this.targetAccountId = targetAccountId;
+            this.amount = amount;
+            this.debit = debit;
+            this.credit = credit;
+            this.currency = currency;
+            this.createdAt = createdAt;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public boolean isAccountOpen() {
+            return type == ACCOUNT_OPEN;
+        }
+
+        public Account toAccount() {
+            return new Account(sourceAccountId, credit, Currencies.codeOf(currency), createdAt);
+        }
+
+        public UUID getTransactionId() {
+            return transactionId;
+        }
+
+        public UUID getSourceAccountId() {
+            return sourceAccountId;
+        }
+
+        public UUID getTargetAccountId() {
+            return targetAccountId;
+        }
+
+        public BigDecimal getAmount() {
+            return Money.toDecimal(amount, Currencies.codeOf(currency));
+        }
+
+        public long getAmountMinorUnits() {
+            return amount;
+        }
+
+        public long getDebit() {
+            return debit;
+        }
+
+        public long getCredit() {
+            return credit;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public Timestamp getCreatedAt() {
+            return createdAt;
+        }
+    }
+}
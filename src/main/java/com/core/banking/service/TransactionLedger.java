@@ -0,0 +1,232 @@
+package com.core.banking.service;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongBiFunction;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.core.banking.dto.TransactionFilter;
+import com.core.banking.dto.TransactionPage;
+import com.core.banking.model.Money;
+import com.core.banking.model.Transaction;
+import com.core.banking.model.TransactionCursor;
+
+@Service
+public class TransactionLedger {
+
+    private static final NavigableSet<TransactionCursor> EMPTY = Collections.emptyNavigableSet();
+    private static final int AGGREGATE_CHUNK = 1 << 16;
+
+    private final Map<UUID, Transaction> transactions;
+    private final TransactionArchive transactionArchive;
+    private final ConcurrentSkipListSet<TransactionCursor> timeline = new ConcurrentSkipListSet<>();
+    private final Map<UUID, NavigableSet<TransactionCursor>> accountIndex = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TransactionLedger(Map<UUID, Transaction> transactions, TransactionArchive transactionArchive) {
+        this.transactions = transactions;
+        this.transactionArchive = transactionArchive;
+        transactions.values().forEach(transaction -> index(TransactionCursor.of(transaction), transaction));
+    }
+
+    public TransactionLedger(Map<UUID, Transaction> transactions) {
+        this(transactions, new TransactionArchive(false, null, 0, 0, 0));
+    }
+
+    public void add(Transaction transaction) {
+        TransactionCursor cursor = TransactionCursor.of(transaction);
+        if (cursor.getCreatedAt() < transactionArchive.watermark()) {
+            return;
+        }
+        transactions.put(transaction.getId(), transaction);
+        index(cursor, transaction);
+    }
+
+    public boolean isArchived(Timestamp createdAt) {
+        return TransactionCursor.toEpochNanos(createdAt.toInstant()) < transactionArchive.watermark();
+    }
+
+    public int size() {
+        return transactions.size();
+    }
+
+    public Collection<Transaction> findAll() {
+        return transactions.values();
+    }
+
+    public Optional<Transaction> findById(UUID id) {
+        Transaction transaction = transactions.get(id);
+        if (Objects.nonNull(transaction)) {
+            return Optional.of(transaction);
+        }
+        return transactionArchive.findById(id);
+    }
+
+    public TransactionPage findPage(TransactionFilter filter, TransactionCursor after, int limit) {
+        List<Transaction> page = new ArrayList<>(Math.min(limit, 1024));
+        TransactionCursor[] last = new TransactionCursor[1];
+        boolean[] more = new boolean[1];
+        scan(filter, after, (cursor, transaction) -> {
+            if (page.size() == limit) {
+                more[0] = true;
+                return false;
+            }
+            page.add(transaction);
+            last[0] = cursor;
+            return true;
+        });
+        return new TransactionPage(page, more[0] ? last[0].toString() : null);
+    }
+
+    public void forEach(TransactionFilter filter, Consumer<Transaction> consumer) {
+        scan(filter, null, (cursor, transaction) -> {
+            consumer.accept(transaction);
+            return true;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${banking.archive.interval-ms:60000}")
+    public synchronized void compact() throws IOException {
+        if (!transactionArchive.isEnabled()) {
+            return;
+        }
+        long cutoff = transactionArchive.cutoff(Instant.now());
+        List<TransactionCursor> cursors = new ArrayList<>();
+        List<Transaction> archived = new ArrayList<>();
+        for (TransactionCursor cursor : timeline.headSet(TransactionCursor.first(cutoff))) {
+            Transaction transaction = transactions.get(cursor.getId());
+            if (Objects.isNull(transaction)) {
+                continue;
+            }
+            if (transaction.getStatus() == Transaction.Status.PENDING) {
+                cutoff = transactionArchive.bucketOf(cursor.getCreatedAt());
+                break;
+            }
+            cursors.add(cursor);
+            archived.add(transaction);
+        }
+        long limit = cutoff;
+        archived.removeIf(transaction -> TransactionCursor.of(transaction).getCreatedAt() >= limit);
+        cursors.removeIf(cursor -> cursor.getCreatedAt() >= limit);
+        if (cutoff <= transactionArchive.watermark()) {
+            return;
+        }
+        transactionArchive.archive(archived, cutoff);
+        for (int i = 0; i < cursors.size(); i++) {
+            Transaction transaction = archived.get(i);
+            TransactionCursor cursor = cursors.get(i);
+            transactions.remove(transaction.getId());
+            timeline.remove(cursor);
+            unindex(transaction.getSourceAccountId(), cursor);
+            unindex(transaction.getTargetAccountId(), cursor);
+        }
+    }
+
+    public synchronized List<AccountTotals> aggregate(LongSupplier cut, ForkJoinPool pool, int partitions, ToLongBiFunction<Transaction, UUID> convert) {
+        long posting = cut.getAsLong();
+        Transaction[] hot = transactions.values().toArray(new Transaction[0]);
+        List<Supplier<AccountTotals>> tasks = new ArrayList<>(transactionArchive.totals(partitions, convert));
+        for (int from = 0; from < hot.length; from += AGGREGATE_CHUNK) {
+            int start = from;
+            int end = Math.min(hot.length, from + AGGREGATE_CHUNK);
+            tasks.add(() -> totals(hot, start, end, posting, partitions, convert));
+        }
+        return pool.submit(() -> tasks.parallelStream().map(Supplier::get).collect(Collectors.toList())).join();
+    }
+
+    private static AccountTotals totals(Transaction[] hot, int from, int to, long cut, int partitions, ToLongBiFunction<Transaction, UUID> convert) {
+        Map<UUID, long[]> net = new HashMap<>();
+        long count = 0;
+        for (int i = from; i < to; i++) {
+            Transaction transaction = hot[i];
+            boolean debited = transaction.isDebitPosted(cut);
+            boolean credited = transaction.isCreditPosted(cut);
+            if (debited) {
+                long debit = transaction.getDebitMinorUnits() >= 0 ? transaction.getDebitMinorUnits() : convert.applyAsLong(transaction, transaction.getSourceAccountId());
+                long[] total = net.computeIfAbsent(transaction.getSourceAccountId(), id -> new long[1]);
+                total[0] = Money.subtract(total[0], debit);
+            }
+            if (credited) {
+                long credit = transaction.getCreditMinorUnits() >= 0 ? transaction.getCreditMinorUnits() : convert.applyAsLong(transaction, transaction.getTargetAccountId());
+                long[] total = net.computeIfAbsent(transaction.getTargetAccountId(), id -> new long[1]);
+                total[0] = Money.add(total[0], credit);
+            }
+            if (debited || credited) {
+                count++;
+            }
+        }
+        UUID[] accounts = new UUID[net.size()];
+        long[] values = new long[net.size()];
+        int k = 0;
+        for (Map.Entry<UUID, long[]> entry : net.entrySet()) {
+            accounts[k] = entry.getKey();
+            values[k++] = entry.getValue()[0];
+        }
+        return new AccountTotals(accounts, values, count, partitions);
+    }
+
+    private void scan(TransactionFilter filter, TransactionCursor after, BiPredicate<TransactionCursor, Transaction> visitor) {
+        long watermark = transactionArchive.watermark();
+        if (Objects.isNull(after) || after.getCreatedAt() < watermark) {
+            if (!transactionArchive.scan(filter, after, watermark, visitor)) {
+                return;
+            }
+        }
+        for (TransactionCursor cursor : cursors(filter, after, watermark)) {
+            if (filter.isPastEnd(cursor)) {
+                return;
+            }
+            Transaction transaction = transactions.get(cursor.getId());
+            if (Objects.nonNull(transaction) && filter.matches(transaction) && !visitor.test(cursor, transaction)) {
+                return;
+            }
+        }
+    }
+
+    private void index(TransactionCursor cursor, Transaction transaction) {
+        timeline.add(cursor);
+        accountIndex.computeIfAbsent(transaction.getSourceAccountId(), id -> new ConcurrentSkipListSet<>()).add(cursor);
+        accountIndex.computeIfAbsent(transaction.getTargetAccountId(), id -> new ConcurrentSkipListSet<>()).add(cursor);
+    }
+
+    private void unindex(UUID accountId, TransactionCursor cursor) {
+        NavigableSet<TransactionCursor> cursors = accountIndex.get(accountId);
+        if (Objects.nonNull(cursors)) {
+            cursors.remove(cursor);
+        }
+    }
+
+    private NavigableSet<TransactionCursor> cursors(TransactionFilter filter, TransactionCursor after, long watermark) {
+        NavigableSet<TransactionCursor> cursors = Objects.nonNull(filter.getAccountId()) ? accountIndex.getOrDefault(filter.getAccountId(), EMPTY) : timeline;
+        TransactionCursor from = TransactionCursor.first(watermark);
+        if (Objects.nonNull(filter.getFrom()) && TransactionCursor.first(filter.getFrom()).compareTo(from) > 0) {
+            from = TransactionCursor.first(filter.getFrom());
+        }
+        if (Objects.nonNull(after) && after.compareTo(from) >= 0) {
+            return cursors.tailSet(after, false);
+        }
+        return cursors.tailSet(from, true);
+    }
+}
@@ -1,67 +1,596 @@
 package com.core.banking.service;
 
-import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import javax.annotation.PostConstruct;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.core.banking.dto.TransactionDto;
+import com.core.banking.dto.TransactionFilter;
+import com.core.banking.dto.TransactionPage;
+import com.core.banking.dto.TransferResult;
 import com.core.banking.exception.AccountNotFoundException;
+import com.core.banking.exception.IdempotencyKeyReusedException;
 import com.core.banking.exception.InvalidAmountException;
+import com.core.banking.exception.InvalidCursorException;
 import com.core.banking.exception.InvalidCurrencyException;
 import com.core.banking.exception.InsufficientBalanceException;
 import com.core.banking.exception.SameAccountException;
+import com.core.banking.exception.TransactionNotFoundException;
 import com.core.banking.model.Account;
+import com.core.banking.model.Money;
 import com.core.banking.model.Transaction;
+import com.core.banking.model.TransactionCursor;
 
 @Service
 public class TransactionService {
 
-    private final Map<UUID, Transaction> transactions;
+    private static final AccountNotFoundException SOURCE_NOT_FOUND = new AccountNotFoundException("source account not found");
+    private static final AccountNotFoundException TARGET_NOT_FOUND = new AccountNotFoundException("target account not found");
+    private static final SameAccountException SAME_ACCOUNT = new SameAccountException("source and target accounts are same");
+    private static final InsufficientBalanceException INSUFFICIENT_BALANCE = new InsufficientBalanceException("insufficient balance in source account");
+
+    private final TransactionLedger transactionLedger;
     private final AccountService accountService;
-    private final MockedCurrencyConversionService mockedCurrencyConversionService;
+    private final CurrencyConversionService currencyConversionService;
+    private final AccountLocks accountLocks;
+    private final TransactionJournal transactionJournal;
+    private final IdempotencyCache idempotencyCache;
+    private final TransferMetrics transferMetrics;
+    private final TransferShards transferShards;
+    private final BalanceSnapshotter balanceSnapshotter;
+    private final TransferEventLog transferEventLog;
+    private final AtomicLong postings = new AtomicLong();
 
     @Autowired
-    public TransactionService(Map<UUID, Transaction> transactions, AccountService accountService, MockedCurrencyConversionService mockedCurrencyConversionService) {
-        this.transactions = transactions;
+    public TransactionService(TransactionLedger transactionLedger, AccountService accountService, CurrencyConversionService currencyConversionService, AccountLocks accountLocks, TransactionJournal transactionJournal, IdempotencyCache idempotencyCache, TransferMetrics transferMetrics, TransferShards transferShards, BalanceSnapshotter balanceSnapshotter, TransferEventLog transferEventLog) {
+        this.transactionLedger = transactionLedger;
         this.accountService = accountService;
-        this.mockedCurrencyConversionService = mockedCurrencyConversionService;
+        this.currencyConversionService = currencyConversionService;
+        this.accountLocks = accountLocks;
+        this.transactionJournal = transactionJournal;
+        this.idempotencyCache = idempotencyCache;
+        this.transferMetrics = transferMetrics;
+        this.transferShards = transferShards;
+        this.balanceSnapshotter = balanceSnapshotter;
+        this.transferEventLog = transferEventLog;
+        this.transferShards.start(this::apply);
+    }
+
+    @PostConstruct
+    public void recover() {
+        long from = balanceSnapshotter.restore(accountService, transactionJournal.size());
+        transactionJournal.replay(from, transactionJournal.size(), entry -> {
+            if (entry.isAccountOpen()) {
+                accountService.restore(entry.toAccount());
+                return;
+            }
+            Account source = accountService.findById(entry.getSourceAccountId())
+                    .orElseThrow(() -> new IllegalStateException("journaled source account not found: " + entry.getSourceAccountId()));
+            Account target = accountService.findById(entry.getTargetAccountId())
+                    .orElseThrow(() -> new IllegalStateException("journaled target account not found: " + entry.getTargetAccountId()));
+            source.debit(entry.getDebit());
+            target.credit(entry.getCredit());
+            accountService.save(source);
+            accountService.save(target);
+            record(entry);
+        });
+        balanceSnapshotter.start(transactionJournal, accountService, transactionLedger);
+    }
+
+    private void record(TransactionJournal.Entry entry) {
+        try {
+            Transaction transaction = new Transaction(entry.getTransactionId(), entry.getSourceAccountId(), entry.getTargetAccountId(), entry.getAmount(), entry.getCurrency(), entry.getCreatedAt());
+            transaction.postDebit(entry.getDebit(), 0);
+            transaction.postCredit(entry.getCredit(), 0);
+            transaction.setStatus(Transaction.Status.SUCCESS);
+            transactionLedger.add(transaction);
+        } catch (InvalidAmountException | InvalidCurrencyException e) {
+            throw new IllegalStateException("journaled transaction is invalid: " + entry.getTransactionId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${banking.accounts.rebalance-interval-ms:1000}")
+    public void rebalanceHotAccounts() {
+        for (Account account : accountService.hotAccounts()) {
+            if (transferShards.isEnabled()) {
+                transferShards.shard(transferShards.shardOf(account.getId())).submit(() -> {
+                    account.rebalance();
+                    return null;
+                }).join();
+                continue;
+            }
+            accountLocks.lock(account.getId());
+            try {
+                account.rebalance();
+            } finally {
+                accountLocks.unlock(account.getId());
+            }
+        }
+    }
+
+    public <T> T quiesce(LongFunction<T> task) {
+        if (transferShards.isEnabled()) {
+            return transferShards.exclusive(() -> locked(task));
+        }
+        return locked(task);
+    }
+
+    private <T> T locked(LongFunction<T> task) {
+        int[] stripes = accountLocks.lockAll();
+        try {
+            return task.apply(postings.get());
+        } finally {
+            accountLocks.unlock(stripes);
+        }
     }
 
     public Collection<Transaction> findAll() {
-        return transactions.values();
+        return transactionLedger.findAll();
+    }
+
+    public Transaction findById(UUID id) throws TransactionNotFoundException {
+        return transactionLedger.findById(id)
+                .orElseThrow(() -> new TransactionNotFoundException("transaction not found"));
+    }
+
+    public TransactionPage findPage(TransactionFilter filter, String cursor, int limit) throws InvalidCursorException {
+        return transactionLedger.findPage(filter, Objects.isNull(cursor) ? null : TransactionCursor.parse(cursor), limit);
+    }
+
+    public void forEach(TransactionFilter filter, Consumer<Transaction> consumer) {
+        transactionLedger.forEach(filter, consumer);
     }
 
     public void transfer(TransactionDto dto) throws AccountNotFoundException, InsufficientBalanceException, InvalidAmountException, InvalidCurrencyException, SameAccountException {
-        Transaction transaction = new Transaction(UUID.randomUUID(), dto.getSourceAccountId(), dto.getTargetAccountId(), dto.getAmount(), dto.getCurrency(), Timestamp.from(Instant.now()));
-        transactions.put(transaction.getId(), transaction);
+        Transaction transaction = newTransaction(dto);
+        awaitDurable(transaction, start(transaction));
+    }
+
+    public CompletableFuture<Void> transferAsync(TransactionDto dto) throws AccountNotFoundException, InsufficientBalanceException, InvalidAmountException, InvalidCurrencyException, SameAccountException {
+        Transaction transaction = newTransaction(dto);
+        return whenDurable(transaction, start(transaction));
+    }
+
+    public void transfer(String idempotencyKey, TransactionDto dto) throws AccountNotFoundException, InsufficientBalanceException, InvalidAmountException, InvalidCurrencyException, SameAccountException, IdempotencyKeyReusedException {
+        if (Objects.isNull(idempotencyKey)) {
+            transfer(dto);
+            return;
+        }
+
+        IdempotencyCache.Entry entry = new IdempotencyCache.Entry(dto);
+        IdempotencyCache.Entry previous = idempotencyCache.putIfAbsent(idempotencyKey, entry);
+        if (Objects.nonNull(previous)) {
+            if (!previous.getDto().equals(dto)) {
+                throw new IdempotencyKeyReusedException("idempotency key was used for a different transaction");
+            }
+            replay(previous.await());
+            return;
+        }
+
+        Transaction transaction;
+        long sequence;
+        try {
+            transaction = newTransaction(dto);
+            sequence = start(transaction);
+        } catch (AccountNotFoundException | InsufficientBalanceException | InvalidAmountException | InvalidCurrencyException | SameAccountException e) {
+            entry.complete(e);
+            throw e;
+        } catch (RuntimeException e) {
+            idempotencyCache.remove(idempotencyKey, entry);
+            entry.abandon(e);
+            throw e;
+        }
+        try {
+            awaitDurable(transaction, sequence);
+            entry.complete(null);
+        } catch (RuntimeException e) {
+            entry.complete(e);
+            throw e;
+        }
+    }
+
+    public CompletableFuture<Void> transferAsync(String idempotencyKey, TransactionDto dto) throws AccountNotFoundException, InsufficientBalanceException, InvalidAmountException, InvalidCurrencyException, SameAccountException, IdempotencyKeyReusedException {
+        if (Objects.isNull(idempotencyKey)) {
+            return transferAsync(dto);
+        }
+
+        IdempotencyCache.Entry entry = new IdempotencyCache.Entry(dto);
+        IdempotencyCache.Entry previous = idempotencyCache.putIfAbsent(idempotencyKey, entry);
+        if (Objects.nonNull(previous)) {
+            if (!previous.getDto().equals(dto)) {
+                throw new IdempotencyKeyReusedException("idempotency key was used for a different transaction");
+            }
+            return previous.toFuture();
+        }
+
+        Transaction transaction;
+        long sequence;
+        try {
+            transaction = newTransaction(dto);
+            sequence = start(transaction);
+        } catch (AccountNotFoundException | InsufficientBalanceException | InvalidAmountException | InvalidCurrencyException | SameAccountException e) {
+            entry.complete(e);
+            throw e;
+        } catch (RuntimeException e) {
+            idempotencyCache.remove(idempotencyKey, entry);
+            entry.abandon(e);
+            throw e;
+        }
+        return whenDurable(transaction, sequence).whenComplete((ignored, failure) -> entry.complete(Objects.isNull(failure) ? null : unwrap(failure)));
+    }
+
+    public List<TransferResult> transferBatch(List<TransactionDto> dtos, boolean atomic) {
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        Transaction[] transactions = new Transaction[dtos.size()];
+        Exception[] errors = new Exception[dtos.size()];
+
+        for (int i = 0; i < dtos.size(); i++) {
+            try {
+                transactions[i] = newTransaction(dtos.get(i), createdAt);
+            } catch (InvalidAmountException | InvalidCurrencyException e) {
+                errors[i] = e;
+            }
+        }
+
+        try {
+            long sequence;
+            if (transferShards.isEnabled()) {
+                sequence = transferShards.exclusive(() -> applyBatch(transactions, errors, atomic));
+            } else {
+                sequence = applyBatch(transactions, errors, atomic);
+            }
+            awaitDurable(sequence);
+        } catch (RuntimeException e) {
+            for (Transaction transaction : transactions) {
+                if (Objects.nonNull(transaction)) {
+                    transaction.setStatus(Transaction.Status.FAIL);
+                }
+            }
+            transferMetrics.failed(e);
+            throw e;
+        }
+        boolean rejected = Arrays.stream(errors).anyMatch(Objects::nonNull);
+
+        List<TransferResult> results = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            UUID id = Objects.isNull(transactions[i]) ? null : transactions[i].getId();
+            if (Objects.nonNull(errors[i])) {
+                if (Objects.nonNull(transactions[i])) {
+                    transactions[i].setStatus(Transaction.Status.FAIL);
+                }
+                transferMetrics.failed(errors[i]);
+                results.add(new TransferResult(id, Transaction.Status.FAIL, errors[i].getMessage()));
+            } else if (atomic && rejected) {
+                transactions[i].setStatus(Transaction.Status.FAIL);
+                transferMetrics.rejected();
+                results.add(new TransferResult(id, Transaction.Status.FAIL, "batch rejected"));
+            } else {
+                succeeded(transactions[i]);
+                results.add(new TransferResult(id, Transaction.Status.SUCCESS, null));
+            }
+        }
+        return results;
+    }
+
+    private long applyBatch(Transaction[] transactions, Exception[] errors, boolean atomic) {
+        boolean rejected = Arrays.stream(errors).anyMatch(Objects::nonNull);
+        long sequence = -1;
+        if (atomic && !rejected) {
+            List<UUID> accountIds = new ArrayList<>(transactions.length * 2);
+            for (Transaction transaction : transactions) {
+                accountIds.add(transaction.getSourceAccountId());
+                accountIds.add(transaction.getTargetAccountId());
+            }
+            int[] stripes = accountLocks.lock(accountIds);
+            try {
+                Map<UUID, Account> accounts = new HashMap<>();
+                Map<UUID, Long> balances = new HashMap<>();
+                Transfer[] transfers = new Transfer[transactions.length];
+                for (int i = 0; i < transactions.length; i++) {
+                    try {
+                        transfers[i] = prepare(transactions[i], accounts, balances);
+                    } catch (AccountNotFoundException | InsufficientBalanceException | InvalidCurrencyException | SameAccountException e) {
+                        errors[i] = e;
+                        rejected = true;
+                    }
+                }
+                if (!rejected) {
+                    for (Transfer transfer : transfers) {
+                        sequence = post(transfer);
+                    }
+                    accounts.values().forEach(accountService::save);
+                }
+            } finally {
+                accountLocks.unlock(stripes);
+            }
+        } else if (!atomic) {
+            for (int i = 0; i < transactions.length; i++) {
+                Transaction transaction = transactions[i];
+                if (Objects.isNull(transaction)) {
+                    continue;
+                }
+                try {
+                    sequence = applyLocked(transaction);
+                } catch (AccountNotFoundException | InsufficientBalanceException | InvalidCurrencyException | SameAccountException e) {
+                    errors[i] = e;
+                }
+            }
+        }
+        return sequence;
+    }
+
+    private long execute(Transaction transaction) throws AccountNotFoundException, InsufficientBalanceException, InvalidAmountException, InvalidCurrencyException, SameAccountException {
+        if (transferShards.isEnabled()) {
+            return applySharded(transaction);
+        }
+        return applyLocked(transaction);
+    }
+
+    private long applyLocked(Transaction transaction) throws AccountNotFoundException, InsufficientBalanceException, InvalidCurrencyException, SameAccountException {
+        if (accountService.isHot(transaction.getTargetAccountId())) {
+            accountLocks.lock(transaction.getSourceAccountId());
+            try {
+                return apply(transaction);
+            } finally {
+                accountLocks.unlock(transaction.getSourceAccountId());
+            }
+        }
+        accountLocks.lock(transaction.getSourceAccountId(), transaction.getTargetAccountId());
+        try {
+            return apply(transaction);
+        } finally {
+            accountLocks.unlock(transaction.getSourceAccountId(), transaction.getTargetAccountId());
+        }
+    }
 
-        Account source = accountService.findById(transaction.getSourceAccountId())
-                .orElseThrow(() -> new AccountNotFoundException("source account not found"));
+    private long apply(Transaction transaction) throws AccountNotFoundException, InsufficientBalanceException, InvalidCurrencyException, SameAccountException {
+        return commit(prepare(transaction, null, null));
+    }
+
+    private long applySharded(Transaction transaction) throws AccountNotFoundException, InsufficientBalanceException, InvalidAmountException, InvalidCurrencyException, SameAccountException {
+        int source = transferShards.shardOf(transaction.getSourceAccountId());
+        int target = transferShards.shardOf(transaction.getTargetAccountId());
+        if (source == target || accountService.isHot(transaction.getTargetAccountId())) {
+            return await(transferShards.shard(source).submit(transaction));
+        }
+
+        Transfer debited = await(transferShards.shard(source).submit(() -> debit(prepare(transaction, null, null))));
+        try {
+            return await(transferShards.shard(target).submit(() -> credit(debited)));
+        } catch (AccountNotFoundException | RuntimeException e) {
+            transferShards.shard(source).submit(() -> refund(debited)).join();
+            throw e;
+        }
+    }
+
+    private Transfer debit(Transfer transfer) {
+        transfer.source.debit(transfer.debit);
+        accountService.save(transfer.source);
+        transfer.transaction.postDebit(transfer.debit, postings.incrementAndGet());
+        return transfer;
+    }
+
+    private long credit(Transfer transfer) throws AccountNotFoundException {
+        Account target = accountService.findById(transfer.transaction.getTargetAccountId())
+                .orElseThrow(() -> TARGET_NOT_FOUND);
+        Money.add(target.getBalanceMinorUnits(), transfer.credit);
+        long sequence = transactionJournal.append(transfer.transaction, transfer.debit, transfer.credit);
+        target.credit(transfer.credit);
+        accountService.save(target);
+        transfer.transaction.postCredit(transfer.credit, postings.incrementAndGet());
+        return sequence;
+    }
+
+    private Void refund(Transfer transfer) {
+        Account source = accountService.findById(transfer.transaction.getSourceAccountId())
+                .orElseThrow(() -> new IllegalStateException("debited source account not found: " + transfer.transaction.getSourceAccountId()));
+        source.credit(transfer.debit);
+        accountService.save(source);
+        transfer.transaction.postDebit(transfer.debit, 0);
+        return null;
+    }
+
+    private <T> T await(CompletableFuture<T> result) throws AccountNotFoundException, InsufficientBalanceException, InvalidAmountException, InvalidCurrencyException, SameAccountException {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            replay((Exception) e.getCause());
+            throw e;
+        }
+    }
+
+    private static void replay(Exception failure) throws AccountNotFoundException, InsufficientBalanceException, InvalidAmountException, InvalidCurrencyException, SameAccountException {
+        if (failure instanceof AccountNotFoundException) {
+            throw (AccountNotFoundException) failure;
+        }
+        if (failure instanceof InsufficientBalanceException) {
+            throw (InsufficientBalanceException) failure;
+        }
+        if (failure instanceof InvalidAmountException) {
+            throw (InvalidAmountException) failure;
+        }
+        if (failure instanceof InvalidCurrencyException) {
+            throw (InvalidCurrencyException) failure;
+        }
+        if (failure instanceof SameAccountException) {
+            throw (SameAccountException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+    }
+
+    private static Exception unwrap(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && Objects.nonNull(failure.getCause()) ? failure.getCause() : failure;
+        return cause instanceof Exception ? (Exception) cause : new CompletionException(cause);
+    }
+
+    private Transaction newTransaction(TransactionDto dto) throws InvalidAmountException, InvalidCurrencyException {
+        try {
+            return newTransaction(dto, Timestamp.from(Instant.now()));
+        } catch (InvalidAmountException | InvalidCurrencyException | RuntimeException e) {
+            transferMetrics.failed(e);
+            throw e;
+        }
+    }
+
+    private long start(Transaction transaction) throws AccountNotFoundException, InsufficientBalanceException, InvalidAmountException, InvalidCurrencyException, SameAccountException {
+        try {
+            return execute(transaction);
+        } catch (AccountNotFoundException | InsufficientBalanceException | InvalidAmountException | InvalidCurrencyException | SameAccountException | RuntimeException e) {
+            failed(transaction, e);
+            throw e;
+        }
+    }
+
+    private Transaction newTransaction(TransactionDto dto, Timestamp createdAt) throws InvalidAmountException, InvalidCurrencyException {
+        long start = transferMetrics.start();
+        Transaction transaction = new Transaction(UUID.randomUUID(), dto.getSourceAccountId(), dto.getTargetAccountId(), dto.getAmount(), dto.getCurrency(), createdAt);
+        start = transferMetrics.record(TransferMetrics.Phase.VALIDATION, start);
+        transactionLedger.add(transaction);
+        transferMetrics.record(TransferMetrics.Phase.LEDGER, start);
+        return transaction;
+    }
 
-        Account target = accountService.findById(transaction.getTargetAccountId())
-                .orElseThrow(() -> new AccountNotFoundException("target account not found"));
+    private Transfer prepare(Transaction transaction, Map<UUID, Account> accounts, Map<UUID, Long> balances) throws AccountNotFoundException, InsufficientBalanceException, InvalidCurrencyException, SameAccountException {
+        long start = transferMetrics.start();
+        Account source = findById(transaction.getSourceAccountId(), accounts)
+                .orElseThrow(() -> SOURCE_NOT_FOUND);
+
+        Account target = findById(transaction.getTargetAccountId(), accounts)
+                .orElseThrow(() -> TARGET_NOT_FOUND);
 
         if (source.getId().equals(target.getId())) {
-            throw new SameAccountException("source and target accounts are same");
+            throw SAME_ACCOUNT;
         }
+        start = transferMetrics.record(TransferMetrics.Phase.LOOKUP, start);
 
-        BigDecimal sourceConversionAmount = mockedCurrencyConversionService.convert(transaction.getAmount(), transaction.getCurrency(), source.getCurrency());
+        long sourceConversionAmount = currencyConversionService.convert(transaction.getAmountMinorUnits(), transaction.getCurrencyCode(), source.getCurrencyCode(), RoundingMode.CEILING);
+        long sourceBalance = Objects.isNull(balances) ? source.getBalanceMinorUnits() : balances.getOrDefault(source.getId(), source.getBalanceMinorUnits());
 
-        if (source.getBalance().compareTo(sourceConversionAmount) < 0) {
-            throw new InsufficientBalanceException("insufficient balance in source account");
+        if (sourceBalance < sourceConversionAmount) {
+            throw INSUFFICIENT_BALANCE;
         }
 
-        source.setBalance(source.getBalance().subtract(sourceConversionAmount));
+        long targetConversionAmount = currencyConversionService.convert(transaction.getAmountMinorUnits(), transaction.getCurrencyCode(), target.getCurrencyCode(), RoundingMode.FLOOR);
+        transferMetrics.record(TransferMetrics.Phase.CONVERSION, start);
+        long targetBalance = Money.add(Objects.isNull(balances) ? target.getBalanceMinorUnits() : balances.getOrDefault(target.getId(), target.getBalanceMinorUnits()), targetConversionAmount);
+
+        if (Objects.nonNull(balances)) {
+            balances.put(source.getId(), sourceBalance - sourceConversionAmount);
+            balances.put(target.getId(), targetBalance);
+        }
+        return new Transfer(transaction, source, target, sourceConversionAmount, targetConversionAmount);
+    }
 
-        BigDecimal targetConversionAmount = mockedCurrencyConversionService.convert(transaction.getAmount(), transaction.getCurrency(), target.getCurrency());
-        target.setBalance(target.getBalance().add(targetConversionAmount));
+    private Optional<Account> findById(UUID id, Map<UUID, Account> accounts) {
+        if (Objects.isNull(accounts)) {
+            return accountService.findById(id);
+        }
+        Account account = accounts.get(id);
+        if (Objects.nonNull(account)) {
+            return Optional.of(account);
+        }
+        Optional<Account> found = accountService.findById(id);
+        found.ifPresent(value -> accounts.put(id, value));
+        return found;
+    }
+
+    private long commit(Transfer transfer) {
+        long sequence = post(transfer);
+        accountService.save(transfer.source);
+        accountService.save(transfer.target);
+        return sequence;
+    }
+
+    private long post(Transfer transfer) {
+        long start = transferMetrics.start();
+        long sequence = transactionJournal.append(transfer.transaction, transfer.debit, transfer.credit);
+        transfer.source.debit(transfer.debit);
+        transfer.target.credit(transfer.credit);
+        long posting = postings.incrementAndGet();
+        transfer.transaction.postDebit(transfer.debit, posting);
+        transfer.transaction.postCredit(transfer.credit, posting);
+        transferMetrics.record(TransferMetrics.Phase.UPDATE, start);
+        return sequence;
+    }
 
+    private void succeeded(Transaction transaction) {
         transaction.setStatus(Transaction.Status.SUCCESS);
+        transferEventLog.publish(transaction);
+        transferMetrics.succeeded();
+    }
+
+    private void failed(Transaction transaction, Exception failure) {
+        transaction.setStatus(Transaction.Status.FAIL);
+        transferMetrics.failed(failure);
+    }
+
+    private void awaitDurable(Transaction transaction, long sequence) {
+        try {
+            awaitDurable(sequence);
+        } catch (RuntimeException e) {
+            failed(transaction, e);
+            throw e;
+        }
+        succeeded(transaction);
+    }
+
+    private CompletableFuture<Void> whenDurable(Transaction transaction, long sequence) {
+        long start = transferMetrics.start();
+        return transactionJournal.whenDurable(sequence).whenComplete((ignored, failure) -> {
+            transferMetrics.record(TransferMetrics.Phase.JOURNAL, start);
+            if (Objects.nonNull(failure)) {
+                failed(transaction, unwrap(failure));
+                return;
+            }
+            succeeded(transaction);
+        });
+    }
+
+    private void awaitDurable(long sequence) {
+        long start = transferMetrics.start();
+        transactionJournal.awaitDurable(sequence);
+        transferMetrics.record(TransferMetrics.Phase.JOURNAL, start);
+    }
+
+    private static final class Transfer {
+
+        private final Transaction transaction;
+        private final Account source;
+        private final Account target;
+        private final long debit;
+        private final long credit;
+
+        private Transfer(Transaction transaction, Account source, Account target, long debit, long credit) {
+            this.transaction = transaction;
+            this.source = source;
+            this.target = target;
+            this.debit = debit;
+            this.credit = credit;
+        }
     }
 }
@@ -0,0 +1,274 @@
+package com.core.banking.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.core.banking.model.Transaction;
+
+@Component
+public class TransferEventLog {
+
+    private final AtomicReferenceArray<Event> ring;
+    private final int mask;
+    private final int dispatcherCount;
+    private final int queueCapacity;
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicBoolean signalled = new AtomicBoolean();
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final LongAdder resyncs = new LongAdder();
+    private volatile boolean closed;
+    private volatile ExecutorService dispatchers;
+    private volatile Thread notifier;
+
+    @Autowired
+    public TransferEventLog(@Value("${banking.events.capacity:65536}") int capacity,
+                            @Value("${banking.events.dispatchers:4}") int dispatchers,
+                            @Value("${banking.events.subscriber-queue:1024}") int queueCapacity) {
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.ring = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.dispatcherCount = Math.max(1, dispatchers);
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    public long getHead() {
+        return head.get();
+    }
+
+    public int getSubscribers() {
+        return subscriptions.size();
+    }
+
+    public long getResyncs() {
+        return resyncs.sum();
+    }
+
+    public String position() {
+        return epoch + ":" + head.get();
+    }
+
+    public void publish(Transaction transaction) {
+        long offset = head.getAndIncrement();
+        ring.set((int) (offset & mask), new Event(offset, transaction));
+        if (!subscriptions.isEmpty()) {
+            signal();
+        }
+    }
+
+    public Subscription subscribe(String lastEventId, Sink sink) {
+        Subscription subscription = new Subscription(sink, start(lastEventId), queueCapacity);
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("event log is closed");
+            }
+            if (Objects.isNull(notifier)) {
+                dispatchers = Executors.newFixedThreadPool(dispatcherCount, runnable -> {
+                    Thread thread = new Thread(runnable, "transfer-events-dispatcher");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                Thread thread = new Thread(this::notifySubscribers, "transfer-events-notifier");
+                thread.setDaemon(true);
+                notifier = thread;
+                thread.start();
+            }
+            subscriptions.add(subscription);
+        }
+        signal();
+        return subscription;
+    }
+
+    public void unsubscribe(Subscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        if (Objects.nonNull(notifier)) {
+            LockSupport.unpark(notifier);
+        }
+        if (Objects.nonNull(dispatchers)) {
+            dispatchers.shutdownNow();
+        }
+        subscriptions.forEach(subscription -> subscription.sink.close());
+        subscriptions.clear();
+    }
+
+    private long start(String lastEventId) {
+        long end = head.get();
+        if (Objects.isNull(lastEventId) || lastEventId.isEmpty()) {
+            return end;
+        }
+        int separator = lastEventId.indexOf(':');
+        try {
+            if (separator > 0 && Long.parseLong(lastEventId.substring(0, separator)) == epoch) {
+                long offset = Long.parseLong(lastEventId.substring(separator + 1)) + 1;
+                if (offset >= 0 && offset <= end) {
+                    return offset;
+                }
+            }
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        return -1;
+    }
+
+    private void signal() {
+        Thread thread = notifier;
+        if (Objects.nonNull(thread) && signalled.compareAndSet(false, true)) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void notifySubscribers() {
+        while (!closed) {
+            if (!signalled.get()) {
+                LockSupport.park(this);
+            }
+            if (Thread.interrupted()) {
+                return;
+            }
+            if (signalled.compareAndSet(true, false)) {
+                subscriptions.forEach(this::fanOut);
+            }
+        }
+    }
+
+    private void fanOut(Subscription subscription) {
+        long end = head.get();
+        long next = subscription.next;
+        if (next < 0 || end - next > ring.length()) {
+            resync(subscription, end);
+            return;
+        }
+        for (; next < end; next++) {
+            Event event = ring.get((int) (next & mask));
+            if (Objects.isNull(event) || event.offset < next) {
+                break;
+            }
+            if (event.offset != next) {
+                resync(subscription, end);
+                return;
+            }
+            if (!subscription.queue.offer(event.frame(epoch))) {
+                resync(subscription, end);
+                return;
+            }
+        }
+        subscription.next = next;
+        schedule(subscription);
+    }
+
+    private void schedule(Subscription subscription) {
+        if (!subscription.queue.isEmpty() || subscription.resync >= 0) {
+            if (subscription.scheduled.compareAndSet(false, true)) {
+                dispatchers.execute(() -> drain(subscription));
+            }
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            while (true) {
+                for (byte[] frame = subscription.queue.poll(); Objects.nonNull(frame) && subscription.resync < 0; frame = subscription.queue.poll()) {
+                    subscription.sink.send(frame);
+                }
+                long end = subscription.resync;
+                if (end >= 0) {
+                    long oldest = Math.max(0, end - ring.length());
+                    subscription.sink.send(("event: resync\ndata: {\"oldest\":\"" + epoch + ":" + oldest + "\",\"head\":\"" + epoch + ":" + end + "\"}\n\n").getBytes(StandardCharsets.UTF_8));
+                    subscription.sink.close();
+                    return;
+                }
+                subscription.scheduled.set(false);
+                if ((subscription.queue.isEmpty() && subscription.resync < 0) || !subscription.scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            subscriptions.remove(subscription);
+            subscription.sink.close();
+        }
+    }
+
+    private void resync(Subscription subscription, long end) {
+        if (subscriptions.remove(subscription)) {
+            resyncs.increment();
+            subscription.queue.clear();
+            subscription.resync = end;
+            schedule(subscription);
+        }
+    }
+
+    public interface Sink {
+
+        void send(byte[] frame) throws IOException;
+
+        void close();
+    }
+
+    public static final class Subscription {
+
+        private final Sink sink;
+        private final ArrayBlockingQueue<byte[]> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long next;
+        private volatile long resync = -1;
+
+        private Subscription(Sink sink, long next, int queueCapacity) {
+            this.sink = sink;
+            this.next = next;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+    }
+
+    private static final class Event {
+
+        private final long offset;
+        private final Transaction transaction;
+        private byte[] frame;
+
+        private Event(long offset, Transaction transaction) {
+            this.offset = offset;
+            this.transaction = transaction;
+        }
+
+        private byte[] frame(long epoch) {
+            if (Objects.isNull(frame)) {
+                frame = ("id: " + epoch + ":" + offset
+                        + "\nevent: transfer\ndata: {\"transactionId\":\"" + transaction.getId()
+                        + "\",\"sourceAccountId\":\"" + transaction.getSourceAccountId()
+                        + "\",\"targetAccountId\":\"" + transaction.getTargetAccountId()
+                        + "\",\"amount\":" + transaction.getAmount().toPlainString()
+                        + ",\"currency\":\"" + transaction.getCurrency()
+                        + "\",\"createdAt\":\"" + transaction.getCreatedAt().toInstant()
+                        + "\"}\n\n").getBytes(StandardCharsets.UTF_8);
+            }
+            return frame;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.core.banking.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.core.banking.exception.RateLimitedException;
+
+@Component
+public class TransferLimiter {
+
+    private static final RateLimitedException OVERLOADED = new RateLimitedException("too many transfers in flight", 1);
+
+    private final Limit clientLimit;
+    private final Limit accountLimit;
+    private final int maxInFlight;
+    private final Set<String> trustedProxies;
+    private final ConcurrentHashMap<String, AtomicLong> clients = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, AtomicLong> accounts = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final LongAdder clientRejections = new LongAdder();
+    private final LongAdder accountRejections = new LongAdder();
+    private final LongAdder overloadRejections = new LongAdder();
+
+    @Autowired
+    public TransferLimiter(@Value("${banking.limits.client.rate:0}") double clientRate,
+                           @Value("${banking.limits.client.burst:100}") int clientBurst,
+                           @Value("${banking.limits.account.rate:0}") double accountRate,
+                           @Value("${banking.limits.account.burst:20}") int accountBurst,
+                           @Value("${banking.limits.max-in-flight:10000}") int maxInFlight,
+                           @Value("${banking.limits.trusted-proxies:}") String trustedProxies) {
+        this.clientLimit = Limit.of(clientRate, clientBurst);
+        this.accountLimit = Limit.of(accountRate, accountBurst);
+        this.maxInFlight = maxInFlight;
+        this.trustedProxies = Arrays.stream(trustedProxies.split(","))
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public String clientOf(String clientId, String remoteAddress) {
+        return Objects.nonNull(clientId) && trustedProxies.contains(remoteAddress) ? clientId : remoteAddress;
+    }
+
+    public void acquire(String client, UUID accountId) throws RateLimitedException {
+        if (maxInFlight > 0 && !enter()) {
+            overloadRejections.increment();
+            throw OVERLOADED;
+        }
+        long now = System.nanoTime();
+        AtomicLong clientBucket = Objects.isNull(clientLimit) || Objects.isNull(client) ? null : clients.computeIfAbsent(client, key -> new AtomicLong(now));
+        long wait = Objects.isNull(clientBucket) ? 0 : clientLimit.take(clientBucket, now, 1);
+        if (wait > 0) {
+            release();
+            clientRejections.increment();
+            throw new RateLimitedException("client rate limit exceeded", seconds(wait));
+        }
+        wait = Objects.isNull(accountLimit) || Objects.isNull(accountId) ? 0 : accountLimit.take(accounts.computeIfAbsent(accountId, key -> new AtomicLong(now)), now, 1);
+        if (wait > 0) {
+            if (Objects.nonNull(clientBucket)) {
+                clientLimit.refund(clientBucket, 1);
+            }
+            release();
+            accountRejections.increment();
+            throw new RateLimitedException("account rate limit exceeded", seconds(wait));
+        }
+    }
+
+    public int admit(String client) throws RateLimitedException {
+        int permits = maxInFlight > 0 ? 1 : 0;
+        if (permits > 0 && !enter()) {
+            overloadRejections.increment();
+            throw OVERLOADED;
+        }
+        AtomicLong clientBucket = Objects.isNull(clientLimit) || Objects.isNull(client) ? null : clients.get(client);
+        long wait = Objects.isNull(clientBucket) ? 0 : clientLimit.delay(clientBucket, System.nanoTime(), 1);
+        if (wait > 0) {
+            release(permits);
+            clientRejections.increment();
+            throw new RateLimitedException("client rate limit exceeded", seconds(wait));
+        }
+        return permits;
+    }
+
+    public int acquire(String client, Collection<UUID> accountIds) throws RateLimitedException {
+        int permits = maxInFlight > 0 ? Math.max(1, Math.min(accountIds.size(), maxInFlight)) : 0;
+        if (permits > 0 && !enter(permits)) {
+            overloadRejections.increment();
+            throw OVERLOADED;
+        }
+        long now = System.nanoTime();
+        AtomicLong clientBucket = Objects.isNull(clientLimit) || Objects.isNull(client) ? null : clients.computeIfAbsent(client, key -> new AtomicLong(now));
+        long wait = Objects.isNull(clientBucket) ? 0 : clientLimit.take(clientBucket, now, accountIds.size());
+        if (wait > 0) {
+            release(permits);
+            clientRejections.increment();
+            throw new RateLimitedException("client rate limit exceeded", seconds(wait));
+        }
+        if (Objects.isNull(accountLimit)) {
+            return permits;
+        }
+        Map<UUID, Integer> weights = new HashMap<>();
+        for (UUID accountId : accountIds) {
+            if (Objects.nonNull(accountId)) {
+                weights.merge(accountId, 1, Integer::sum);
+            }
+        }
+        List<Map.Entry<AtomicLong, Integer>> taken = new ArrayList<>(weights.size());
+        for (Map.Entry<UUID, Integer> weight : weights.entrySet()) {
+            AtomicLong bucket = accounts.computeIfAbsent(weight.getKey(), key -> new AtomicLong(now));
+            wait = accountLimit.take(bucket, now, weight.getValue());
+            if (wait > 0) {
+                taken.forEach(entry -> accountLimit.refund(entry.getKey(), entry.getValue()));
+                if (Objects.nonNull(clientBucket)) {
+                    clientLimit.refund(clientBucket, accountIds.size());
+                }
+                release(permits);
+                accountRejections.increment();
+                throw new RateLimitedException("account rate limit exceeded", seconds(wait));
+            }
+            taken.add(Map.entry(bucket, weight.getValue()));
+        }
+        return permits;
+    }
+
+    public void release() {
+        release(1);
+    }
+
+    public void release(int permits) {
+        if (maxInFlight > 0 && permits > 0) {
+            inFlight.addAndGet(-permits);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${banking.limits.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        clients.values().removeIf(bucket -> bucket.get() - now <= 0);
+        accounts.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getClientRejections() {
+        return clientRejections.sum();
+    }
+
+    public long getAccountRejections() {
+        return accountRejections.sum();
+    }
+
+    public long getOverloadRejections() {
+        return overloadRejections.sum();
+    }
+
+    private boolean enter() {
+        return enter(1);
+    }
+
+    private boolean enter(int permits) {
+        while (true) {
+            int current = inFlight.get();
+            if (current + permits > maxInFlight) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + permits)) {
+                return true;
+            }
+        }
+    }
+
+    private static long seconds(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static final class Limit {
+
+        private final long interval;
+        private final long capacity;
+
+        private Limit(long interval, long capacity) {
+            this.interval = interval;
+            this.capacity = capacity;
+        }
+
+        private static Limit of(double rate, int burst) {
+            if (rate <= 0) {
+                return null;
+            }
+            long interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+            return new Limit(interval, interval * Math.max(1, burst));
+        }
+
+        private long take(AtomicLong bucket, long now, long weight) {
+            while (true) {
+                long arrival = bucket.get();
+                long next = (arrival - now > 0 ? arrival : now) + interval * weight;
+                long wait = next - now - capacity;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (bucket.compareAndSet(arrival, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        private long delay(AtomicLong bucket, long now, long weight) {
+            long arrival = bucket.get();
+            return (arrival - now > 0 ? arrival : now) + interval * weight - now - capacity;
+        }
+
+        private void refund(AtomicLong bucket, long weight) {
+            bucket.addAndGet(-interval * weight);
+        }
+    }
+}
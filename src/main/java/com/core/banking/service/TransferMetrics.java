@@ -0,0 +1,82 @@
+package com.core.banking.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class TransferMetrics {
+
+    public static final String PHASE_TIMER = "banking.transfer.phase";
+    public static final String OUTCOME_COUNTER = "banking.transfer.outcome";
+    public static final String SUCCESS = "success";
+    public static final String BATCH_REJECTED = "batch_rejected";
+
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    public enum Phase {
+        VALIDATION, LOOKUP, CONVERSION, UPDATE, LEDGER, JOURNAL
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Timer[] phases = new Timer[Phase.values().length];
+    private final Map<String, Counter> outcomes = new ConcurrentHashMap<>();
+    private final int sampleMask;
+
+    @Autowired
+    public TransferMetrics(MeterRegistry meterRegistry, @Value("${banking.metrics.phase-sample-rate:16}") int sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.sampleMask = Integer.highestOneBit(Math.max(1, sampleRate)) - 1;
+        for (Phase phase : Phase.values()) {
+            phases[phase.ordinal()] = Timer.builder(PHASE_TIMER)
+                    .tag("phase", phase.name().toLowerCase())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+
+    public long start() {
+        if (sampleMask != 0 && (ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    public long record(Phase phase, long start) {
+        if (start == NOT_SAMPLED) {
+            return NOT_SAMPLED;
+        }
+        long now = System.nanoTime();
+        phases[phase.ordinal()].record(now - start, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    public void succeeded() {
+        outcome(SUCCESS).increment();
+    }
+
+    public void rejected() {
+        outcome(BATCH_REJECTED).increment();
+    }
+
+    public void failed(Exception exception) {
+        outcome(exception.getClass().getSimpleName()).increment();
+    }
+
+    private Counter outcome(String outcome) {
+        Counter counter = outcomes.get(outcome);
+        if (counter == null) {
+            counter = outcomes.computeIfAbsent(outcome, key -> Counter.builder(OUTCOME_COUNTER).tag("outcome", key).register(meterRegistry));
+        }
+        return counter;
+    }
+}
@@ -0,0 +1,142 @@
+package com.core.banking.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.core.banking.model.Transaction;
+
+public class TransferSequencer {
+
+    public enum WaitStrategy {
+        BUSY_SPIN, YIELD, PARK;
+
+        private static final int SPINS = 100;
+        private static final int YIELDS = 100;
+        private static final long PARK_NANOS = 10_000;
+
+        int idle(int counter) {
+            if (this == BUSY_SPIN || counter < SPINS) {
+                return counter + 1;
+            }
+            if (this == YIELD || counter < SPINS + YIELDS) {
+                Thread.yield();
+                return counter + 1;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+            return counter;
+        }
+    }
+
+    public interface Handler {
+
+        long apply(Transaction transaction) throws Exception;
+    }
+
+    private final Slot[] ring;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final AtomicLong claimed = new AtomicLong();
+
+    private volatile long consumed = -1;
+    private volatile boolean running;
+    private Thread consumer;
+
+    public TransferSequencer(int bufferSize, WaitStrategy waitStrategy) {
+        int size = 1;
+        while (size < bufferSize) {
+            size <<= 1;
+        }
+        this.ring = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            this.ring[i] = new Slot();
+        }
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    public synchronized void start(Handler handler, String name) {
+        if (running) {
+            return;
+        }
+        running = true;
+        consumer = new Thread(() -> consume(handler), name);
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Long> submit(Transaction transaction) {
+        return (CompletableFuture<Long>) publish(transaction, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        return (CompletableFuture<T>) publish(null, task);
+    }
+
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = consumer;
+        }
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompletableFuture<?> publish(Transaction transaction, Callable<?> task) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        long sequence = claimed.getAndIncrement();
+        int idle = 0;
+        while (sequence - consumed > ring.length) {
+            idle = waitStrategy.idle(idle);
+        }
+        Slot slot = ring[(int) sequence & mask];
+        slot.transaction = transaction;
+        slot.task = task;
+        slot.result = result;
+        slot.published = sequence;
+        return result;
+    }
+
+    private void consume(Handler handler) {
+        long next = consumed + 1;
+        int idle = 0;
+        while (running || claimed.get() > next) {
+            Slot slot = ring[(int) next & mask];
+            if (slot.published != next) {
+                idle = waitStrategy.idle(idle);
+                continue;
+            }
+            idle = 0;
+            Transaction transaction = slot.transaction;
+            Callable<?> task = slot.task;
+            CompletableFuture<Object> result = slot.result;
+            slot.transaction = null;
+            slot.task = null;
+            slot.result = null;
+            try {
+                result.complete(transaction != null ? handler.apply(transaction) : task.call());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+            consumed = next++;
+        }
+    }
+
+    private static final class Slot {
+
+        private volatile long published = -1;
+        private Transaction transaction;
+        private Callable<?> task;
+        private CompletableFuture<Object> result;
+    }
+}
@@ -0,0 +1,97 @@
+package com.core.banking.service;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransferShards {
+
+    public static final String LOCKING = "locking";
+    public static final String SEQUENCER = "sequencer";
+    public static final String SHARDED = "sharded";
+
+    private final TransferSequencer[] shards;
+
+    @Autowired
+    public TransferShards(@Value("${banking.transfer.mode:locking}") String mode,
+                          @Value("${banking.transfer.shards:4}") int shards,
+                          @Value("${banking.transfer.sequencer.buffer-size:1024}") int bufferSize,
+                          @Value("${banking.transfer.sequencer.wait-strategy:YIELD}") TransferSequencer.WaitStrategy waitStrategy) {
+        int count = SHARDED.equals(mode) ? Math.max(1, shards) : SEQUENCER.equals(mode) ? 1 : 0;
+        this.shards = new TransferSequencer[count];
+        for (int i = 0; i < count; i++) {
+            this.shards[i] = new TransferSequencer(bufferSize, waitStrategy);
+        }
+    }
+
+    public boolean isEnabled() {
+        return shards.length > 0;
+    }
+
+    public int count() {
+        return shards.length;
+    }
+
+    public void start(TransferSequencer.Handler handler) {
+        for (int i = 0; i < shards.length; i++) {
+            shards[i].start(handler, shards.length == 1 ? "transfer-sequencer" : "transfer-shard-" + i);
+        }
+    }
+
+    public int shardOf(UUID id) {
+        long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        int hash = (int) (bits ^ (bits >>> 32));
+        return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % shards.length;
+    }
+
+    public TransferSequencer shard(int index) {
+        return shards[index];
+    }
+
+    public synchronized <T> T exclusive(Supplier<T> task) {
+        CountDownLatch paused = new CountDownLatch(shards.length);
+        CountDownLatch resumed = new CountDownLatch(1);
+        for (TransferSequencer shard : shards) {
+            shard.submit(() -> {
+                paused.countDown();
+                awaitUninterruptibly(resumed);
+                return null;
+            });
+        }
+        awaitUninterruptibly(paused);
+        try {
+            return task.get();
+        } finally {
+            resumed.countDown();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        for (TransferSequencer shard : shards) {
+            shard.close();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
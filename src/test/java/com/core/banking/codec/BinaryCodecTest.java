@@ -0,0 +1,76 @@
+package com.core.banking.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.dto.TransactionPage;
+import com.core.banking.dto.TransferResult;
+import com.core.banking.model.Transaction;
+
+class BinaryCodecTest {
+
+    @Test
+    void shouldRoundTripTransferInFixedLayout() {
+        // given
+        TransactionDto dto = new TransactionDto(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("12.34"), "GBP");
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryCodec.TRANSFER_SIZE);
+
+        // when
+        BinaryCodec.encode(dto, buffer);
+        buffer.flip();
+        TransactionDto decoded = BinaryCodec.decodeTransfer(buffer);
+
+        // then
+        assertEquals(dto, decoded);
+        assertEquals(new BigDecimal("12.34"), decoded.getAmount());
+        assertFalse(buffer.hasRemaining());
+        assertEquals(826, buffer.getShort(40));
+    }
+
+    @Test
+    void shouldRoundTripTransactionPageAndResults() throws Exception {
+        // given
+        Transaction transaction = new Transaction(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal(500), "JPY", Timestamp.from(Instant.now()));
+        transaction.setStatus(Transaction.Status.SUCCESS);
+        TransactionPage page = new TransactionPage(Arrays.asList(transaction), "next");
+        TransferResult result = new TransferResult(null, Transaction.Status.FAIL, "source account not found");
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryCodec.sizeOf(page) + BinaryCodec.sizeOf(result));
+
+        // when
+        BinaryCodec.encode(page, buffer);
+        BinaryCodec.encode(result, buffer);
+        buffer.flip();
+        TransactionPage decodedPage = BinaryCodec.decodeTransactionPage(buffer);
+        TransferResult decodedResult = BinaryCodec.decodeTransferResult(buffer);
+
+        // then
+        assertEquals(transaction, decodedPage.getTransactions().get(0));
+        assertEquals(new BigDecimal(500), decodedPage.getTransactions().get(0).getAmount());
+        assertEquals("JPY", decodedPage.getTransactions().get(0).getCurrency());
+        assertEquals(transaction.getCreatedAt(), decodedPage.getTransactions().get(0).getCreatedAt());
+        assertEquals(Transaction.Status.SUCCESS, decodedPage.getTransactions().get(0).getStatus());
+        assertEquals("next", decodedPage.getNextCursor());
+        assertNull(decodedResult.getTransactionId());
+        assertEquals(Transaction.Status.FAIL, decodedResult.getStatus());
+        assertEquals("source account not found", decodedResult.getError());
+    }
+
+    @Test
+    void shouldRejectTruncatedTransfer() {
+        // given, when, then
+        assertThrows(BufferUnderflowException.class, () -> BinaryCodec.decodeTransfer(ByteBuffer.allocate(BinaryCodec.TRANSFER_SIZE - 1)));
+    }
+}
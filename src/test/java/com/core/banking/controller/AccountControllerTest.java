@@ -0,0 +1,168 @@
+package com.core.banking.controller;
+
+import static com.core.banking.BankingApplication.SOURCE_ACCOUNT_ID;
+import static com.core.banking.BankingApplication.TARGET_ACCOUNT_ID;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import com.core.banking.dto.AccountDto;
+import com.core.banking.dto.TransactionDto;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AccountControllerTest {
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    void shouldReturnAccountTransactions() {
+        given()
+                .port(port)
+                .body(new TransactionDto(SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID, new BigDecimal(1), "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/transactions");
+
+        JsonPath result = given()
+                .port(port)
+                .get("/api/accounts/{id}/transactions", TARGET_ACCOUNT_ID)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.getList("transactions.targetAccountId")).isNotEmpty().containsOnly(TARGET_ACCOUNT_ID.toString());
+    }
+
+    @Test
+    void shouldOpenAndFindAccount() {
+        UUID id = UUID.randomUUID();
+
+        given()
+                .port(port)
+                .body(new AccountDto(id, new BigDecimal("25.50"), "EUR"))
+                .contentType(ContentType.JSON)
+                .post("/api/accounts")
+                .then()
+                .statusCode(HttpStatus.CREATED.value());
+
+        JsonPath result = given()
+                .port(port)
+                .get("/api/accounts/{id}", id)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.getString("id")).isEqualTo(id.toString());
+        assertThat(result.getString("balance")).isEqualTo("25.5");
+        assertThat(result.getString("currency")).isEqualTo("EUR");
+    }
+
+    @Test
+    void shouldReturnAccountBalance() {
+        UUID id = UUID.randomUUID();
+        given()
+                .port(port)
+                .body(new AccountDto(id, new BigDecimal("12.34"), "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/accounts")
+                .then()
+                .statusCode(HttpStatus.CREATED.value());
+
+        JsonPath result = given()
+                .port(port)
+                .get("/api/accounts/{id}/balance", id)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.getString("accountId")).isEqualTo(id.toString());
+        assertThat(result.getString("balance")).isEqualTo("12.34");
+        assertThat(result.getString("currency")).isEqualTo("GBP");
+
+        given()
+                .port(port)
+                .get("/api/accounts/{id}/balance", UUID.randomUUID())
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    void shouldFailToOpenExistingAccount() {
+        JsonPath result = given()
+                .port(port)
+                .body(new AccountDto(TARGET_ACCOUNT_ID, BigDecimal.ONE, "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/accounts")
+                .then()
+                .statusCode(HttpStatus.CONFLICT.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.get("error").toString()).isEqualTo("account already exists");
+    }
+
+    @Test
+    void shouldFailToOpenAccountWithInvalidCurrency() {
+        JsonPath result = given()
+                .port(port)
+                .body(new AccountDto(null, BigDecimal.ONE, "ABC"))
+                .contentType(ContentType.JSON)
+                .post("/api/accounts")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.get("error").toString()).isEqualTo("Account currency (ABC) is invalid");
+    }
+
+    @Test
+    void shouldFailToImportMissingFile() {
+        given()
+                .port(port)
+                .queryParam("file", UUID.randomUUID() + ".csv")
+                .post("/api/accounts/import")
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    void shouldFailToFindUnknownAccount() {
+        given()
+                .port(port)
+                .get("/api/accounts/{id}", UUID.randomUUID())
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    void shouldFailToReturnTransactionsWhenAccountIsNotFound() {
+        JsonPath result = given()
+                .port(port)
+                .get("/api/accounts/{id}/transactions", UUID.randomUUID())
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.get("error").toString()).isEqualTo("account not found");
+    }
+}
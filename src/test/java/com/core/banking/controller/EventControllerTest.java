@@ -0,0 +1,58 @@
+package com.core.banking.controller;
+
+import static com.core.banking.BankingApplication.SOURCE_ACCOUNT_ID;
+import static com.core.banking.BankingApplication.TARGET_ACCOUNT_ID;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.http.ContentType;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import com.core.banking.dto.TransactionDto;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EventControllerTest {
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    void shouldStreamCommittedTransfersAsServerSentEvents() throws Exception {
+        HttpResponse<Stream<String>> response = HttpClient.newHttpClient()
+                .sendAsync(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events"))
+                        .header("Accept", "text/event-stream")
+                        .build(), HttpResponse.BodyHandlers.ofLines())
+                .get(10, TimeUnit.SECONDS);
+
+        given()
+                .port(port)
+                .body(new TransactionDto(TARGET_ACCOUNT_ID, SOURCE_ACCOUNT_ID, new BigDecimal(1), "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/transactions")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        try (Stream<String> lines = response.body()) {
+            Iterator<String> iterator = lines.iterator();
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+            assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith("text/event-stream"));
+            assertThat(iterator.next()).startsWith(": ");
+            assertThat(iterator.next()).isEmpty();
+            assertThat(iterator.next()).startsWith("id: ");
+            assertThat(iterator.next()).isEqualTo("event: transfer");
+            assertThat(iterator.next()).contains("\"sourceAccountId\":\"" + TARGET_ACCOUNT_ID + "\"");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.core.banking.controller;
+
+import static com.core.banking.BankingApplication.SOURCE_ACCOUNT_ID;
+import static com.core.banking.BankingApplication.TARGET_ACCOUNT_ID;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.service.TransactionJournal;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class JournalFailStopTest {
+
+    @LocalServerPort
+    int port;
+
+    @MockBean
+    TransactionJournal transactionJournal;
+
+    @Test
+    void shouldStopServingApiOnceJournalFlushHasFailed() {
+        given().port(port).get("/api/accounts/" + SOURCE_ACCOUNT_ID + "/balance").then().statusCode(HttpStatus.OK.value());
+
+        when(transactionJournal.isFailed()).thenReturn(true);
+        Response balance = given().port(port).get("/api/accounts/" + SOURCE_ACCOUNT_ID + "/balance");
+        Response transfer = given()
+                .port(port)
+                .body(new TransactionDto(SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID, BigDecimal.ONE, "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/transactions");
+
+        assertThat(balance.statusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(balance.jsonPath().getString("error")).isEqualTo("journal flush failed");
+        assertThat(transfer.statusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        given().port(port).get("/actuator/health").then().statusCode(HttpStatus.OK.value());
+    }
+}
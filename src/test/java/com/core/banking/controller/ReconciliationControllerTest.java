@@ -0,0 +1,54 @@
+package com.core.banking.controller;
+
+import static com.core.banking.BankingApplication.SOURCE_ACCOUNT_ID;
+import static com.core.banking.BankingApplication.TARGET_ACCOUNT_ID;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import com.core.banking.dto.TransactionDto;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReconciliationControllerTest {
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    void shouldReconcileBalancesAgainstLedger() {
+        given()
+                .port(port)
+                .body(new TransactionDto(SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID, new BigDecimal(1), "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/transactions")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        JsonPath result = given()
+                .port(port)
+                .post("/api/reconciliations")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.getLong("transactions")).isPositive();
+        assertThat(result.getLong("discrepancyCount")).isZero();
+        assertThat(result.getList("discrepancies")).isEmpty();
+
+        given()
+                .port(port)
+                .get("/api/reconciliations/latest")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+    }
+}
@@ -8,6 +8,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.restassured.http.ContentType;
 import io.restassured.path.json.JsonPath;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -15,7 +20,10 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.web.server.LocalServerPort;
 import org.springframework.http.HttpStatus;
 
+import com.core.banking.codec.BinaryCodec;
+import com.core.banking.codec.BinaryMessageConverter;
 import com.core.banking.dto.TransactionDto;
+import com.core.banking.dto.TransactionPage;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 class TransactionControllerTest {
@@ -153,4 +161,254 @@ class TransactionControllerTest {
 
         assertThat(result.get("error").toString()).isEqualTo("insufficient balance in source account");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnTransactionsPage() {
+        given()
+                .port(port)
+                .body(new TransactionDto(SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID, new BigDecimal(1), "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/transactions");
+
+        JsonPath result = given()
+                .port(port)
+                .queryParam("accountId", SOURCE_ACCOUNT_ID.toString())
+                .queryParam("limit", 1)
+                .get("/api/transactions")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.getList("transactions")).hasSize(1);
+        assertThat(List.of(result.getString("transactions[0].sourceAccountId"), result.getString("transactions[0].targetAccountId"))).contains(SOURCE_ACCOUNT_ID.toString());
+    }
+
+    @Test
+    void shouldStreamTransactionsAsNdjson() {
+        given()
+                .port(port)
+                .body(new TransactionDto(SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID, new BigDecimal(1), "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/transactions");
+
+        String result = given()
+                .port(port)
+                .accept("application/x-ndjson")
+                .queryParam("status", "SUCCESS")
+                .get("/api/transactions")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType("application/x-ndjson")
+                .extract()
+                .asString();
+
+        assertThat(result.split("\n")).isNotEmpty().allMatch(line -> new JsonPath(line).getString("status").equals("SUCCESS"));
+    }
+
+    @Test
+    void shouldFailToPageWhenCursorIsInvalid() {
+        JsonPath result = given()
+                .port(port)
+                .queryParam("cursor", "invalid")
+                .get("/api/transactions")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.get("error").toString()).isEqualTo("Transaction cursor (invalid) is invalid");
+    }
+
+    @Test
+    void shouldFindTransactionById() {
+        given()
+                .port(port)
+                .body(new TransactionDto(TARGET_ACCOUNT_ID, SOURCE_ACCOUNT_ID, new BigDecimal(1), "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/transactions");
+        String id = given()
+                .port(port)
+                .queryParam("accountId", TARGET_ACCOUNT_ID.toString())
+                .queryParam("limit", 1)
+                .get("/api/transactions")
+                .then()
+                .extract()
+                .body()
+                .jsonPath()
+                .getString("transactions[0].id");
+
+        JsonPath result = given()
+                .port(port)
+                .get("/api/transactions/" + id)
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.getString("id")).isEqualTo(id);
+        assertThat(result.getString("targetAccountId")).isNotNull();
+    }
+
+    @Test
+    void shouldFailToFindUnknownTransaction() {
+        JsonPath result = given()
+                .port(port)
+                .get("/api/transactions/" + UUID.randomUUID())
+                .then()
+                .statusCode(HttpStatus.NOT_FOUND.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.get("error").toString()).isEqualTo("transaction not found");
+    }
+
+    @Test
+    void shouldTransferBatch() {
+        JsonPath result = given()
+                .port(port)
+                .body(Arrays.asList(
+                        new TransactionDto(SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID, new BigDecimal(1), "GBP"),
+                        new TransactionDto(SOURCE_ACCOUNT_ID, SOURCE_ACCOUNT_ID, new BigDecimal(1), "GBP")))
+                .contentType(ContentType.JSON)
+                .post("/api/transactions/batch")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.getList("status")).containsExactly("SUCCESS", "FAIL");
+        assertThat(result.getString("[1].error")).isEqualTo("source and target accounts are same");
+    }
+
+    @Test
+    void shouldTransferNdjsonBatch() {
+        String body = String.format("{\"sourceAccountId\":\"%s\",\"targetAccountId\":\"%s\",\"amount\":1,\"currency\":\"GBP\"}%n{\"sourceAccountId\":\"%s\",\"targetAccountId\":\"%s\",\"amount\":1,\"currency\":\"GBP\"}",
+                SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID, TARGET_ACCOUNT_ID, SOURCE_ACCOUNT_ID);
+        JsonPath result = given()
+                .port(port)
+                .body(body.getBytes(StandardCharsets.UTF_8))
+                .contentType("application/x-ndjson")
+                .queryParam("atomic", true)
+                .post("/api/transactions/batch")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.getList("status")).containsExactly("SUCCESS", "SUCCESS");
+    }
+
+    @Test
+    void shouldTransferWithBinaryBody() {
+        ByteBuffer body = ByteBuffer.allocate(BinaryCodec.TRANSFER_SIZE);
+        BinaryCodec.encode(new TransactionDto(TARGET_ACCOUNT_ID, SOURCE_ACCOUNT_ID, new BigDecimal("1.25"), "GBP"), body);
+
+        byte[] result = given()
+                .port(port)
+                .body(body.array())
+                .contentType(BinaryMessageConverter.APPLICATION_BANKING_BINARY_VALUE)
+                .accept(BinaryMessageConverter.APPLICATION_BANKING_BINARY_VALUE)
+                .post("/api/transactions")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(BinaryMessageConverter.APPLICATION_BANKING_BINARY_VALUE)
+                .extract()
+                .asByteArray();
+
+        Map.Entry<String, String> message = BinaryCodec.decodeEntry(ByteBuffer.wrap(result));
+        assertThat(message.getKey()).isEqualTo("message");
+        assertThat(message.getValue()).isEqualTo("transaction succeeded");
+    }
+
+    @Test
+    void shouldRejectTruncatedBinaryBody() {
+        given()
+                .port(port)
+                .body(new byte[BinaryCodec.TRANSFER_SIZE - 1])
+                .contentType(BinaryMessageConverter.APPLICATION_BANKING_BINARY_VALUE)
+                .post("/api/transactions")
+                .then()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void shouldReturnTransactionsPageAsBinary() {
+        given()
+                .port(port)
+                .body(new TransactionDto(TARGET_ACCOUNT_ID, SOURCE_ACCOUNT_ID, new BigDecimal(1), "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/transactions");
+
+        byte[] result = given()
+                .port(port)
+                .accept(BinaryMessageConverter.APPLICATION_BANKING_BINARY_VALUE)
+                .queryParam("accountId", TARGET_ACCOUNT_ID)
+                .get("/api/transactions")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .asByteArray();
+
+        TransactionPage page = BinaryCodec.decodeTransactionPage(ByteBuffer.wrap(result));
+        assertThat(page.getTransactions()).isNotEmpty().allMatch(transaction -> transaction.getSourceAccountId().equals(TARGET_ACCOUNT_ID) || transaction.getTargetAccountId().equals(TARGET_ACCOUNT_ID));
+    }
+
+    @Test
+    void shouldReplayTransferWithSameIdempotencyKey() {
+        String key = UUID.randomUUID().toString();
+        for (int i = 0; i < 2; i++) {
+            given()
+                    .port(port)
+                    .header("Idempotency-Key", key)
+                    .body(new TransactionDto(TARGET_ACCOUNT_ID, SOURCE_ACCOUNT_ID, new BigDecimal(1), "GBP"))
+                    .contentType(ContentType.JSON)
+                    .post("/api/transactions")
+                    .then()
+                    .statusCode(HttpStatus.OK.value());
+        }
+
+        JsonPath result = given()
+                .port(port)
+                .header("Idempotency-Key", key)
+                .body(new TransactionDto(TARGET_ACCOUNT_ID, SOURCE_ACCOUNT_ID, new BigDecimal(2), "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/transactions")
+                .then()
+                .statusCode(HttpStatus.UNPROCESSABLE_ENTITY.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.get("error").toString()).isEqualTo("idempotency key was used for a different transaction");
+    }
+
+    @Test
+    void shouldExposeTransferMetrics() {
+        given()
+                .port(port)
+                .body(new TransactionDto(TARGET_ACCOUNT_ID, SOURCE_ACCOUNT_ID, new BigDecimal(1), "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/transactions")
+                .then()
+                .statusCode(HttpStatus.OK.value());
+
+        JsonPath result = given()
+                .port(port)
+                .get("/actuator/metrics/banking.transfer.outcome")
+                .then()
+                .statusCode(HttpStatus.OK.value())
+                .extract()
+                .body()
+                .jsonPath();
+
+        assertThat(result.getList("availableTags.tag")).contains("outcome");
+        assertThat(result.getFloat("measurements[0].value")).isGreaterThanOrEqualTo(1f);
+    }
+}
@@ -0,0 +1,101 @@
+package com.core.banking.controller;
+
+import static com.core.banking.BankingApplication.SOURCE_ACCOUNT_ID;
+import static com.core.banking.BankingApplication.TARGET_ACCOUNT_ID;
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+
+import com.core.banking.dto.TransactionDto;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"banking.limits.client.rate=0.1", "banking.limits.client.burst=2", "banking.limits.trusted-proxies=127.0.0.1,0:0:0:0:0:0:0:1", "banking.limits.max-batch=3"})
+class TransferLimitTest {
+
+    @LocalServerPort
+    int port;
+
+    @Test
+    void shouldRejectClientOverRateLimitWithRetryAfter() {
+        transfer("noisy").then().statusCode(HttpStatus.OK.value());
+        transfer("noisy").then().statusCode(HttpStatus.OK.value());
+
+        Response rejected = transfer("noisy");
+
+        assertThat(rejected.statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(Long.parseLong(rejected.header("Retry-After"))).isBetween(1L, 10L);
+        assertThat(rejected.jsonPath().getString("error")).isEqualTo("client rate limit exceeded");
+        transfer("quiet").then().statusCode(HttpStatus.OK.value());
+    }
+
+    @Test
+    void shouldWeighBatchBySizeAgainstClientRateLimit() {
+        TransactionDto dto = new TransactionDto(SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID, BigDecimal.ONE, "GBP");
+
+        Response rejected = batch("bulk", List.of(dto, dto, dto));
+
+        assertThat(rejected.statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.jsonPath().getString("error")).isEqualTo("client rate limit exceeded");
+        batch("bulk", List.of(dto, dto)).then().statusCode(HttpStatus.OK.value());
+        transfer("bulk").then().statusCode(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void shouldRejectLimitedClientBeforeReadingNdjsonBatch() {
+        transfer("streaming").then().statusCode(HttpStatus.OK.value());
+        transfer("streaming").then().statusCode(HttpStatus.OK.value());
+
+        Response rejected = ndjson("streaming", "not json");
+
+        assertThat(rejected.statusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.jsonPath().getString("error")).isEqualTo("client rate limit exceeded");
+    }
+
+    @Test
+    void shouldRejectNdjsonBatchOverMaximumSize() {
+        String line = String.format("{\"sourceAccountId\":\"%s\",\"targetAccountId\":\"%s\",\"amount\":1,\"currency\":\"GBP\"}%n", SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID);
+
+        Response rejected = ndjson("oversized", line.repeat(4));
+
+        assertThat(rejected.statusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        assertThat(rejected.jsonPath().getString("error")).isEqualTo("batch exceeds 3 transfers");
+        ndjson("oversized", line.repeat(2)).then().statusCode(HttpStatus.OK.value());
+    }
+
+    private Response ndjson(String clientId, String body) {
+        return given()
+                .port(port)
+                .header("X-Client-Id", clientId)
+                .body(body.getBytes(StandardCharsets.UTF_8))
+                .contentType("application/x-ndjson")
+                .post("/api/transactions/batch");
+    }
+
+    private Response batch(String clientId, List<TransactionDto> dtos) {
+        return given()
+                .port(port)
+                .header("X-Client-Id", clientId)
+                .body(dtos)
+                .contentType(ContentType.JSON)
+                .post("/api/transactions/batch");
+    }
+
+    private Response transfer(String clientId) {
+        return given()
+                .port(port)
+                .header("X-Client-Id", clientId)
+                .body(new TransactionDto(SOURCE_ACCOUNT_ID, TARGET_ACCOUNT_ID, BigDecimal.ONE, "GBP"))
+                .contentType(ContentType.JSON)
+                .post("/api/transactions");
+    }
+}
@@ -0,0 +1,121 @@
+package com.core.banking.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class AccountTest {
+
+    @Test
+    void shouldReadCommittedBalanceOfSplitAccountWhileDebitingAndRebalancing() {
+        // given
+        Account sut = new Account(UUID.randomUUID(), new BigDecimal(1000), "GBP", Timestamp.from(Instant.now())).split(8);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            while (running.get()) {
+                sut.debit(40_000);
+                sut.credit(40_000);
+                sut.rebalance();
+                sut.credit(10_000);
+                sut.debit(10_000);
+            }
+        });
+
+        // when
+        long reads = 0;
+        long invalid = 0;
+        long deadline = System.nanoTime() + 500_000_000L;
+        while (System.nanoTime() < deadline) {
+            long balance = sut.getBalanceMinorUnits();
+            if (balance != 100_000 && balance != 60_000 && balance != 110_000) {
+                invalid++;
+            }
+            reads++;
+        }
+        running.set(false);
+        writer.join();
+
+        // then
+        assertTrue(reads > 0);
+        assertEquals(0, invalid);
+        assertEquals(100_000, sut.getBalanceMinorUnits());
+    }
+
+    @Test
+    void shouldNeverReadLaterCreditWithoutEarlierCreditOfSplitAccount() {
+        // given
+        Account sut = new Account(UUID.randomUUID(), BigDecimal.ZERO, "GBP", Timestamp.from(Instant.now())).split(8);
+        long round = (1L << 40) - 1;
+        AtomicBoolean running = new AtomicBoolean(true);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            while (running.get()) {
+                for (int bit = 0; bit < 40; bit++) {
+                    sut.credit(1L << bit);
+                }
+                sut.restore(0, 0);
+            }
+        });
+
+        // when
+        long reads = 0;
+        long invalid = 0;
+        long deadline = System.nanoTime() + 500_000_000L;
+        while (System.nanoTime() < deadline) {
+            long balance = sut.getBalanceMinorUnits();
+            if ((balance & (balance + 1)) != 0 || balance > round) {
+                invalid++;
+            }
+            reads++;
+        }
+        running.set(false);
+        writer.join();
+
+        // then
+        assertTrue(reads > 0);
+        assertEquals(0, invalid);
+    }
+
+    @Test
+    void shouldDrainSeveralCellsWithoutDrivingAnyNegative() {
+        // given
+        Account sut = new Account(UUID.randomUUID(), new BigDecimal(1000), "GBP", Timestamp.from(Instant.now())).split(4);
+        for (int i = 0; i < 20; i++) {
+            sut.credit(1_000);
+        }
+
+        // when
+        sut.debit(115_000);
+
+        // then
+        assertEquals(5_000, sut.getBalanceMinorUnits());
+        assertTrue(Arrays.stream(sut.cellBalances()).allMatch(cell -> cell >= 0));
+        assertEquals(5_000, Arrays.stream(sut.cellBalances()).sum());
+    }
+
+    @Test
+    void shouldCarryOverdraftOnlyInFirstCell() {
+        // given
+        Account sut = new Account(UUID.randomUUID(), new BigDecimal(10), "GBP", Timestamp.from(Instant.now())).split(4);
+        for (int i = 0; i < 4; i++) {
+            sut.credit(100);
+        }
+
+        // when
+        sut.debit(2_000);
+
+        // then
+        long[] cells = sut.cellBalances();
+        assertEquals(-600, sut.getBalanceMinorUnits());
+        assertEquals(-600, cells[0]);
+        assertTrue(Arrays.stream(cells, 1, cells.length).allMatch(cell -> cell == 0));
+    }
+}
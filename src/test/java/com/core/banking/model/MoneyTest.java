@@ -0,0 +1,53 @@
+package com.core.banking.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    static final int GBP = Currencies.codeOf("GBP");
+    static final int JPY = Currencies.codeOf("JPY");
+
+    @Test
+    void shouldConvertDecimalToMinorUnitsOfCurrency() {
+        // given, when, then
+        assertEquals(1050L, Money.toMinorUnits(new BigDecimal("10.5"), GBP));
+        assertEquals(10L, Money.toMinorUnits(new BigDecimal("10"), JPY));
+        assertEquals(new BigDecimal("10.50"), Money.toDecimal(1050L, GBP));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenAmountHasMoreDigitsThanCurrency() {
+        // given, when, then
+        assertThrows(ArithmeticException.class, () -> Money.toMinorUnits(new BigDecimal("10.001"), GBP));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenArithmeticOverflows() {
+        // given, when, then
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.subtract(Long.MIN_VALUE, 1));
+    }
+
+    @Test
+    void shouldRescaleBetweenCurrencyFractionDigits() {
+        // given, when, then
+        assertEquals(1050L, Money.rescale(1050L, GBP, GBP, RoundingMode.HALF_EVEN));
+        assertEquals(10L, Money.rescale(1050L, GBP, JPY, RoundingMode.HALF_EVEN));
+        assertEquals(1000L, Money.rescale(10L, JPY, GBP, RoundingMode.HALF_EVEN));
+    }
+
+    @Test
+    void shouldLookUpCurrencyCodes() {
+        // given, when, then
+        assertEquals("GBP", Currencies.isoCode(GBP));
+        assertEquals(Currencies.UNKNOWN, Currencies.codeOf("GB"));
+        assertEquals(Currencies.UNKNOWN, Currencies.codeOf("gbp"));
+        assertEquals(Currencies.UNKNOWN, Currencies.codeOf("ZZZ"));
+    }
+}
@@ -61,4 +61,22 @@ class TransactionTest {
         assertThrows(InvalidCurrencyException.class,
                 () -> sut = new Transaction(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal(10), "GB", Timestamp.from(Instant.now())));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldThrowExceptionWhenAmountHasMoreDigitsThanCurrencyAllows() {
+        // given, when, then
+        assertThrows(InvalidAmountException.class,
+                () -> sut = new Transaction(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("10.001"), "GBP", Timestamp.from(Instant.now())));
+    }
+
+    @Test
+    void shouldRejectInvalidCurrencyWithoutCapturingStackTrace() {
+        // given, when
+        InvalidCurrencyException exception = assertThrows(InvalidCurrencyException.class,
+                () -> sut = new Transaction(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal(10), "gbp", Timestamp.from(Instant.now())));
+
+        // then
+        assertEquals("Transaction currency (gbp) is invalid", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+}
@@ -0,0 +1,104 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.core.banking.dto.AccountImportResult;
+import com.core.banking.model.Account;
+import com.core.banking.model.Currencies;
+
+class AccountImporterTest {
+
+    @TempDir
+    Path directory;
+
+    Map<UUID, Account> accounts = new ConcurrentHashMap<>();
+
+    AccountImporter sut;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sut = new AccountImporter(new AccountService(accounts), new TransactionJournal(false, null, 0), directory.toString(), "", 4);
+    }
+
+    @Test
+    void shouldImportCsvAccountsInParallelAndSkipDuplicates() throws IOException {
+        // given
+        UUID existing = UUID.randomUUID();
+        accounts.put(existing, new Account(existing, BigDecimal.ONE, "GBP", Timestamp.from(Instant.now())));
+        StringBuilder csv = new StringBuilder("id,balance,currency,createdAt\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append(new UUID(7, i)).append(',').append(i).append(".5,GBP\r\n");
+        }
+        csv.append(existing).append(",3,JPY,2021-06-01T00:00:00Z\n");
+        csv.append(new UUID(8, 0)).append(",12,JPY,2021-06-01T00:00:00Z");
+        Files.writeString(directory.resolve("accounts.csv"), csv, StandardCharsets.US_ASCII);
+
+        // when
+        AccountImportResult result = sut.importFromDirectory("accounts.csv");
+
+        // then
+        assertEquals(1001, result.getImported());
+        assertEquals(1, result.getDuplicates());
+        assertEquals(1002, accounts.size());
+        assertEquals(new BigDecimal("999.50"), accounts.get(new UUID(7, 999)).getBalance());
+        assertEquals(new BigDecimal("12"), accounts.get(new UUID(8, 0)).getBalance());
+        assertEquals(Instant.parse("2021-06-01T00:00:00Z"), accounts.get(new UUID(8, 0)).getCreatedAt().toInstant());
+        assertEquals(new BigDecimal("1.00"), accounts.get(existing).getBalance());
+    }
+
+    @Test
+    void shouldImportBinaryAccounts() throws IOException {
+        // given
+        ByteBuffer buffer = ByteBuffer.allocate(AccountImporter.BINARY_HEADER_SIZE + 100 * AccountImporter.BINARY_RECORD_SIZE);
+        buffer.putInt(AccountImporter.BINARY_MAGIC).putInt(AccountImporter.BINARY_VERSION);
+        for (int i = 0; i < 100; i++) {
+            buffer.putLong(9).putLong(i).putLong(i * 100L).putShort((short) Currencies.numericCode(Currencies.codeOf("EUR"))).putLong(0);
+        }
+        Files.write(directory.resolve("accounts.bin"), buffer.array());
+
+        // when
+        AccountImportResult result = sut.importFromDirectory("accounts.bin");
+
+        // then
+        assertEquals(100, result.getImported());
+        assertEquals(new BigDecimal("99.00"), accounts.get(new UUID(9, 99)).getBalance());
+        assertEquals("EUR", accounts.get(new UUID(9, 99)).getCurrency());
+    }
+
+    @Test
+    void shouldRejectInvalidCsvLine() throws IOException {
+        // given
+        Files.writeString(directory.resolve("accounts.csv"), new UUID(1, 1) + ",1.234,GBP\n", StandardCharsets.US_ASCII);
+
+        // when
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> sut.importFromDirectory("accounts.csv"));
+
+        // then
+        assertTrue(exception.getMessage().contains("byte 0"));
+        assertTrue(accounts.isEmpty());
+    }
+
+    @Test
+    void shouldRejectFilesOutsideImportDirectory() {
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> sut.importFromDirectory("../accounts.csv"));
+    }
+}
@@ -55,4 +55,27 @@ class AccountServiceTest {
         //then
         assertFalse(actual.isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReportExactAggregateBalanceOfHotAccount() {
+        // given
+        UUID id = UUID.randomUUID();
+        accounts.put(id, new Account(id, new BigDecimal(10), "GBP", Timestamp.from(Instant.now())));
+        sut = new AccountService(new HeapAccountStore(accounts), id.toString(), 4);
+
+        // when
+        Account hot = sut.findById(id).get();
+        for (int i = 0; i < 100; i++) {
+            hot.credit(100);
+        }
+        hot.debit(10050);
+
+        //then
+        assertTrue(sut.isHot(id));
+        assertTrue(hot.isSplit());
+        assertEquals(hot, sut.findById(id).get());
+        assertEquals(0, new BigDecimal("9.50").compareTo(sut.findById(id).get().getBalance()));
+        hot.rebalance();
+        assertEquals(950, sut.findById(id).get().getBalanceMinorUnits());
+    }
+}
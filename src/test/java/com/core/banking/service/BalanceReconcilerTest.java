@@ -0,0 +1,238 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.dto.ReconciliationReport;
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.exception.AccountNotFoundException;
+import com.core.banking.exception.InsufficientBalanceException;
+import com.core.banking.model.Account;
+import com.core.banking.model.Transaction;
+
+class BalanceReconcilerTest {
+
+    static final int ACCOUNTS = 16;
+
+    @TempDir
+    Path directory;
+
+    Map<UUID, Account> accounts = new ConcurrentHashMap<>();
+
+    Map<UUID, Transaction> transactions = new ConcurrentHashMap<>();
+
+    List<UUID> ids = new ArrayList<>();
+
+    TransferShards shards = new TransferShards(TransferShards.SHARDED, 2, 1024, TransferSequencer.WaitStrategy.YIELD);
+
+    TransactionLedger ledger;
+
+    TransactionService transactionService;
+
+    BalanceReconciler sut;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Account account = new Account(UUID.randomUUID(), new BigDecimal(1000), i == 0 ? "EUR" : "GBP", Timestamp.from(Instant.now()));
+            accounts.put(account.getId(), account);
+            ids.add(account.getId());
+        }
+        AccountService accountService = new AccountService(accounts);
+        CurrencyConversionService currencyConversionService = new CurrencyConversionService("", RoundingMode.HALF_EVEN);
+        ledger = new TransactionLedger(transactions, new TransactionArchive(true, directory.toString(), 60_000, 1, 2));
+        transactionService = new TransactionService(ledger, accountService, currencyConversionService, new AccountLocks(16), new TransactionJournal(false, null, 0), new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), shards, new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+        sut = new BalanceReconciler(transactionService, ledger, accountService, currencyConversionService, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+        shards.close();
+    }
+
+    @Test
+    void shouldReportNoDiscrepanciesForConsistentLedger() throws Exception {
+        // given
+        for (int i = 0; i < 100; i++) {
+            transactionService.transfer(new TransactionDto(ids.get(i % ACCOUNTS), ids.get((i + 1) % ACCOUNTS), new BigDecimal("1.25"), "GBP"));
+        }
+
+        // when
+        ReconciliationReport report = sut.reconcile();
+
+        // then
+        assertEquals(0, report.getDiscrepancyCount());
+        assertEquals(100, report.getTransactions());
+        assertEquals(ACCOUNTS, report.getAccounts());
+        assertTrue(report.getCut() >= 100);
+    }
+
+    @Test
+    void shouldReportTamperedBalance() throws Exception {
+        // given
+        transactionService.transfer(new TransactionDto(ids.get(1), ids.get(2), new BigDecimal("10.00"), "GBP"));
+        accounts.get(ids.get(2)).credit(5);
+
+        // when
+        ReconciliationReport report = sut.reconcile();
+
+        // then
+        assertEquals(1, report.getDiscrepancyCount());
+        assertEquals(ids.get(2), report.getDiscrepancies().get(0).getAccountId());
+        assertEquals("GBP", report.getDiscrepancies().get(0).getCurrency());
+        assertEquals(new BigDecimal("0.05"), report.getDiscrepancies().get(0).getDifference());
+        assertEquals(1, sut.getLastDiscrepancyCount());
+    }
+
+    @Test
+    void shouldNotReportDiscrepanciesWhileTransfersContinue() throws Exception {
+        // given
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    UUID source = ids.get(random.nextInt(ACCOUNTS));
+                    UUID target = random.nextInt(20) == 0 ? UUID.randomUUID() : ids.get(random.nextInt(ACCOUNTS));
+                    if (source.equals(target)) {
+                        continue;
+                    }
+                    try {
+                        transactionService.transfer(new TransactionDto(source, target, new BigDecimal(random.nextInt(1, 20)), "GBP"));
+                    } catch (AccountNotFoundException | InsufficientBalanceException e) {
+                        continue;
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // when
+        List<ReconciliationReport> reports = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            reports.add(sut.reconcile());
+        }
+        running.set(false);
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        reports.add(sut.reconcile());
+
+        // then
+        for (ReconciliationReport report : reports) {
+            assertEquals(0, report.getDiscrepancyCount(), report.getDiscrepancies().toString());
+        }
+        assertTrue(reports.get(reports.size() - 1).getTransactions() > 0);
+    }
+
+    @Test
+    void shouldIncludeArchivedTransactions() throws Exception {
+        // given
+        Instant start = Instant.parse("2021-06-01T00:00:00Z");
+        for (int i = 0; i < 10; i++) {
+            Account source = accounts.get(ids.get(1));
+            Account target = accounts.get(ids.get(i % 2 == 0 ? 0 : 2));
+            Transaction transaction = new Transaction(UUID.randomUUID(), source.getId(), target.getId(), new BigDecimal("3.00"), "GBP", Timestamp.from(start.plusSeconds(i * 30L)));
+            long credit = target.getCurrencyCode() == source.getCurrencyCode() ? 300 : new CurrencyConversionService("", RoundingMode.HALF_EVEN).convert(300, source.getCurrencyCode(), target.getCurrencyCode());
+            if (i < 5) {
+                transaction.postDebit(300, 0);
+                transaction.postCredit(credit, 0);
+            }
+            transaction.setStatus(i < 8 ? Transaction.Status.SUCCESS : Transaction.Status.FAIL);
+            if (i < 8) {
+                source.debit(300);
+                target.credit(credit);
+            }
+            ledger.add(transaction);
+        }
+        ledger.compact();
+        transactionService.transfer(new TransactionDto(ids.get(3), ids.get(4), new BigDecimal("1.00"), "GBP"));
+
+        // when
+        ReconciliationReport report = sut.reconcile();
+
+        // then
+        assertEquals(1, ledger.size());
+        assertEquals(0, report.getDiscrepancyCount());
+        assertEquals(9, report.getTransactions());
+    }
+
+    @Test
+    void shouldNotReportDiscrepanciesAfterRestartFromSnapshot() throws Exception {
+        // given
+        Instant start = Instant.parse("2021-06-01T00:00:00Z");
+        for (int i = 0; i < 4; i++) {
+            Account source = accounts.get(ids.get(1));
+            Account target = accounts.get(ids.get(2));
+            Transaction transaction = new Transaction(UUID.randomUUID(), source.getId(), target.getId(), new BigDecimal("3.00"), "GBP", Timestamp.from(start.plusSeconds(i * 30L)));
+            transaction.postDebit(300, 0);
+            transaction.postCredit(300, 0);
+            transaction.setStatus(Transaction.Status.SUCCESS);
+            source.debit(300);
+            target.credit(300);
+            ledger.add(transaction);
+        }
+        ledger.compact();
+        TransactionJournal journal = new TransactionJournal(true, directory.resolve("transactions.journal").toString(), 1 << 16);
+        BalanceSnapshotter snapshotter = new BalanceSnapshotter(true, directory.resolve("snapshots").toString(), 2);
+        TransactionLedger snapshotLedger = new TransactionLedger(new ConcurrentHashMap<>(), new TransactionArchive(true, directory.toString(), 1, 1, 2));
+        TransactionService service = service(accounts, snapshotLedger, journal, snapshotter);
+        service.recover();
+        service.transfer(new TransactionDto(ids.get(3), ids.get(4), new BigDecimal("1.00"), "GBP"));
+        Thread.sleep(2);
+        snapshotLedger.compact();
+        snapshotter.snapshot();
+        service.transfer(new TransactionDto(ids.get(4), ids.get(3), new BigDecimal("0.50"), "GBP"));
+        journal.close();
+
+        // when
+        Map<UUID, Account> restarted = new ConcurrentHashMap<>();
+        accounts.values().forEach(account -> restarted.put(account.getId(), new Account(account.getId(), new BigDecimal(1000), account.getCurrency(), account.getCreatedAt())));
+        TransactionLedger restartedLedger = new TransactionLedger(new ConcurrentHashMap<>(), new TransactionArchive(true, directory.toString(), 1, 1, 2));
+        TransactionJournal reopened = new TransactionJournal(true, directory.resolve("transactions.journal").toString(), 1 << 16);
+        TransactionService restartedService = service(restarted, restartedLedger, reopened, new BalanceSnapshotter(true, directory.resolve("snapshots").toString(), 2));
+        restartedService.recover();
+        BalanceReconciler reconciler = new BalanceReconciler(restartedService, restartedLedger, new AccountService(restarted), new CurrencyConversionService("", RoundingMode.HALF_EVEN), 2);
+        ReconciliationReport report = reconciler.reconcile();
+        reconciler.close();
+        reopened.close();
+
+        // then
+        assertEquals(1, snapshotter.getSequence());
+        assertEquals(new BigDecimal("988.00"), restarted.get(ids.get(1)).getBalance());
+        assertEquals(0, report.getDiscrepancyCount(), report.getDiscrepancies().toString());
+        assertEquals(6, report.getTransactions());
+    }
+
+    private TransactionService service(Map<UUID, Account> accounts, TransactionLedger ledger, TransactionJournal journal, BalanceSnapshotter snapshotter) throws IOException {
+        return new TransactionService(ledger, new AccountService(accounts), new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), journal, new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), snapshotter, new TransferEventLog(1024, 1, 1024));
+    }
+}
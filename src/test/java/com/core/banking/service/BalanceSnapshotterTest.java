@@ -0,0 +1,226 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.dto.TransactionFilter;
+import com.core.banking.model.Account;
+import com.core.banking.model.Transaction;
+
+class BalanceSnapshotterTest {
+
+    static final long REGION_SIZE = TransactionJournal.RECORD_SIZE * 4;
+
+    @TempDir
+    Path directory;
+
+    UUID sourceId = UUID.randomUUID();
+
+    UUID targetId = UUID.randomUUID();
+
+    @Test
+    void shouldRestoreLatestSnapshotAndReplayOnlyTheTailIntoBalances() throws Exception {
+        // given
+        TransactionJournal journal = journal();
+        BalanceSnapshotter snapshotter = snapshotter();
+        Map<UUID, Transaction> history = new HashMap<>();
+        TransactionLedger ledger = ledger(history);
+        TransactionService service = service(accounts(), ledger, journal, snapshotter);
+        transfer(service, 5);
+        List<UUID> archived = List.copyOf(history.keySet());
+        archive(ledger);
+        snapshotter.snapshot();
+        transfer(service, 2);
+        journal.close();
+
+        // when
+        Map<UUID, Account> accounts = accounts();
+        Map<UUID, Transaction> transactions = new HashMap<>();
+        TransactionJournal reopened = journal();
+        BalanceSnapshotter restored = snapshotter();
+        TransactionLedger restoredLedger = ledger(transactions);
+        service(accounts, restoredLedger, reopened, restored);
+        reopened.close();
+
+        // then
+        assertEquals(5, restored.getSequence());
+        assertEquals(new BigDecimal("30.00"), accounts.get(sourceId).getBalance());
+        assertEquals(new BigDecimal("270.00"), accounts.get(targetId).getBalance());
+        assertEquals(2, transactions.size());
+        assertTrue(transactions.values().stream().allMatch(transaction -> transaction.getStatus() == Transaction.Status.SUCCESS));
+        assertTrue(archived.stream().allMatch(id -> restoredLedger.findById(id).isPresent()));
+    }
+
+    @Test
+    void shouldNotSnapshotPastTransfersThatAreNotArchived() throws Exception {
+        // given
+        TransactionJournal journal = journal();
+        BalanceSnapshotter snapshotter = snapshotter();
+        TransactionLedger ledger = ledger(new HashMap<>());
+        TransactionService service = service(accounts(), ledger, journal, snapshotter);
+        transfer(service, 3);
+        archive(ledger);
+        transfer(service, 2);
+
+        // when
+        snapshotter.snapshot();
+        journal.close();
+
+        // then
+        assertEquals(3, snapshotter.getSequence());
+        Map<UUID, Account> accounts = accounts();
+        Map<UUID, Transaction> transactions = new HashMap<>();
+        TransactionJournal reopened = journal();
+        service(accounts, ledger(transactions), reopened, snapshotter());
+        reopened.close();
+        assertEquals(new BigDecimal("50.00"), accounts.get(sourceId).getBalance());
+        assertEquals(new BigDecimal("250.00"), accounts.get(targetId).getBalance());
+        assertEquals(2, transactions.size());
+    }
+
+    @Test
+    void shouldFallBackToOlderSnapshotWhenLatestIsCorrupt() throws Exception {
+        // given
+        TransactionJournal journal = journal();
+        BalanceSnapshotter snapshotter = snapshotter();
+        TransactionLedger ledger = ledger(new HashMap<>());
+        TransactionService service = service(accounts(), ledger, journal, snapshotter);
+        transfer(service, 3);
+        archive(ledger);
+        snapshotter.snapshot();
+        transfer(service, 3);
+        archive(ledger);
+        snapshotter.snapshot();
+        journal.close();
+        List<Path> snapshots = snapshots();
+        assertEquals(2, snapshots.size());
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("snapshots").resolve("balances-6.snapshot").toFile(), "rw")) {
+            file.seek(BalanceSnapshotter.HEADER_SIZE + 20);
+            file.write(0x7F);
+        }
+
+        // when
+        Map<UUID, Account> accounts = accounts();
+        Map<UUID, Transaction> transactions = new HashMap<>();
+        TransactionJournal reopened = journal();
+        BalanceSnapshotter restored = snapshotter();
+        TransactionLedger restoredLedger = ledger(transactions);
+        service(accounts, restoredLedger, reopened, restored);
+        reopened.close();
+
+        // then
+        assertEquals(3, restored.getSequence());
+        assertEquals(new BigDecimal("40.00"), accounts.get(sourceId).getBalance());
+        assertEquals(new BigDecimal("260.00"), accounts.get(targetId).getBalance());
+        assertEquals(0, transactions.size());
+        assertEquals(6, restoredLedger.findPage(new TransactionFilter(null, null, null, null), null, 10).getTransactions().size());
+    }
+
+    @Test
+    void shouldKeepOnlyConfiguredNumberOfSnapshots() throws Exception {
+        // given
+        TransactionJournal journal = journal();
+        BalanceSnapshotter snapshotter = snapshotter();
+        TransactionLedger ledger = ledger(new HashMap<>());
+        TransactionService service = service(accounts(), ledger, journal, snapshotter);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            transfer(service, 1);
+            archive(ledger);
+            snapshotter.snapshot();
+        }
+        journal.close();
+
+        // then
+        List<Path> snapshots = snapshots();
+        assertEquals(2, snapshots.size());
+        assertTrue(snapshots.contains(directory.resolve("snapshots").resolve("balances-4.snapshot")));
+        assertTrue(snapshots.contains(directory.resolve("snapshots").resolve("balances-3.snapshot")));
+    }
+
+    @Test
+    void shouldStoreAlphabeticCurrencyCodeInSnapshot() throws Exception {
+        // given
+        TransactionJournal journal = journal();
+        BalanceSnapshotter snapshotter = snapshotter();
+        TransactionLedger ledger = ledger(new HashMap<>());
+        TransactionService service = service(accounts(), ledger, journal, snapshotter);
+        transfer(service, 1);
+        archive(ledger);
+
+        // when
+        snapshotter.snapshot();
+        journal.close();
+
+        // then
+        byte[] snapshot = Files.readAllBytes(directory.resolve("snapshots").resolve("balances-1.snapshot"));
+        assertEquals("GBP", new String(snapshot, BalanceSnapshotter.HEADER_SIZE + 32, 3, StandardCharsets.US_ASCII));
+        assertEquals("GBP", new String(snapshot, BalanceSnapshotter.HEADER_SIZE + BalanceSnapshotter.RECORD_SIZE + 32, 3, StandardCharsets.US_ASCII));
+    }
+
+    private void transfer(TransactionService service, int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            service.transfer(new TransactionDto(sourceId, targetId, BigDecimal.TEN, "GBP"));
+        }
+    }
+
+    private void archive(TransactionLedger ledger) throws Exception {
+        Thread.sleep(2);
+        ledger.compact();
+    }
+
+    private TransactionService service(Map<UUID, Account> accounts, TransactionLedger ledger, TransactionJournal journal, BalanceSnapshotter snapshotter) throws IOException {
+        TransactionService service = new TransactionService(ledger, new AccountService(accounts), new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), journal, new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), snapshotter, new TransferEventLog(1024, 1, 1024));
+        service.recover();
+        return service;
+    }
+
+    private TransactionLedger ledger(Map<UUID, Transaction> transactions) {
+        return new TransactionLedger(transactions, new TransactionArchive(true, directory.resolve("archive").toString(), 1, 1, 2));
+    }
+
+    private TransactionJournal journal() throws IOException {
+        return new TransactionJournal(true, directory.resolve("transactions.journal").toString(), REGION_SIZE);
+    }
+
+    private BalanceSnapshotter snapshotter() {
+        return new BalanceSnapshotter(true, directory.resolve("snapshots").toString(), 2);
+    }
+
+    private List<Path> snapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve("snapshots"))) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private Map<UUID, Account> accounts() {
+        Map<UUID, Account> accounts = new ConcurrentHashMap<>();
+        accounts.put(sourceId, new Account(sourceId, new BigDecimal(100), "GBP", Timestamp.from(Instant.now())));
+        accounts.put(targetId, new Account(targetId, new BigDecimal(200), "GBP", Timestamp.from(Instant.now())));
+        return accounts;
+    }
+}
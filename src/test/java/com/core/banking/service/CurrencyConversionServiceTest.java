@@ -0,0 +1,116 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.core.banking.exception.InvalidCurrencyException;
+import com.core.banking.model.Currencies;
+import com.core.banking.model.RateTable;
+
+class CurrencyConversionServiceTest {
+
+    static final int USD = Currencies.codeOf("USD");
+    static final int GBP = Currencies.codeOf("GBP");
+    static final int EUR = Currencies.codeOf("EUR");
+    static final int JPY = Currencies.codeOf("JPY");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldDeriveCrossRateThroughPivot() throws InvalidCurrencyException {
+        // given
+        CurrencyConversionService sut = new CurrencyConversionService(rates("0.80", "0.90", "150"), RoundingMode.HALF_EVEN);
+
+        // when
+        long actual = sut.convert(10000, GBP, EUR);
+
+        // then
+        assertEquals(11250, actual);
+    }
+
+    @Test
+    void shouldRescaleBetweenFractionDigits() throws InvalidCurrencyException {
+        // given
+        CurrencyConversionService sut = new CurrencyConversionService(rates("0.80", "0.90", "150"), RoundingMode.HALF_EVEN);
+
+        // when
+        long toYen = sut.convert(1000, USD, JPY);
+        long fromYen = sut.convert(1000, JPY, USD);
+
+        // then
+        assertEquals(1500, toYen);
+        assertEquals(667, fromYen);
+    }
+
+    @Test
+    void shouldApplyConfiguredRounding() throws InvalidCurrencyException {
+        // given
+        CurrencyConversionService sut = new CurrencyConversionService(rates("0.80", "0.90", "150"), RoundingMode.DOWN);
+
+        // when
+        long actual = sut.convert(1000, JPY, USD);
+
+        // then
+        assertEquals(666, actual);
+    }
+
+    @Test
+    void shouldApplyRequestedRoundingOverConfiguredRounding() throws InvalidCurrencyException {
+        // given
+        CurrencyConversionService sut = new CurrencyConversionService(rates("0.80", "0.90", "150"), RoundingMode.HALF_EVEN);
+
+        // when
+        long up = sut.convert(1, JPY, USD, RoundingMode.CEILING);
+        long down = sut.convert(1000, JPY, USD, RoundingMode.FLOOR);
+
+        // then
+        assertEquals(1, up);
+        assertEquals(666, down);
+    }
+
+    @Test
+    void shouldRejectConversionWithoutRate() {
+        // given
+        CurrencyConversionService sut = new CurrencyConversionService(rates("0.80", "0.90", "150"), RoundingMode.HALF_EVEN);
+
+        // when, then
+        assertThrows(InvalidCurrencyException.class, () -> sut.convert(100, GBP, Currencies.codeOf("CHF")));
+    }
+
+    @Test
+    void shouldReloadRatesFromFile() throws Exception {
+        // given
+        Path path = directory.resolve("rates.properties");
+        Files.write(path, "pivot=USD\nGBP=0.80\n".getBytes(StandardCharsets.UTF_8));
+        CurrencyConversionService sut = new CurrencyConversionService(path.toString(), RoundingMode.HALF_EVEN);
+        long before = sut.convert(10000, USD, GBP);
+
+        // when
+        Files.write(path, "pivot=USD\nGBP=0.50\n".getBytes(StandardCharsets.UTF_8));
+        sut.reload();
+
+        // then
+        assertEquals(8000, before);
+        assertEquals(5000, sut.convert(10000, USD, GBP));
+    }
+
+    private RateTable rates(String gbp, String eur, String jpy) {
+        Map<String, BigDecimal> rates = new HashMap<>();
+        rates.put("GBP", new BigDecimal(gbp));
+        rates.put("EUR", new BigDecimal(eur));
+        rates.put("JPY", new BigDecimal(jpy));
+        return new RateTable("USD", rates);
+    }
+}
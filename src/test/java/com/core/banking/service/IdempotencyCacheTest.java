@@ -0,0 +1,105 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.core.banking.dto.TransactionDto;
+
+class IdempotencyCacheTest {
+
+    TransactionDto dto = new TransactionDto(UUID.randomUUID(), UUID.randomUUID(), BigDecimal.ONE, "GBP");
+
+    @Test
+    void shouldReturnPreviousEntryForSameKey() {
+        // given
+        IdempotencyCache sut = new IdempotencyCache(10, 60);
+        IdempotencyCache.Entry entry = new IdempotencyCache.Entry(dto);
+
+        // when
+        IdempotencyCache.Entry first = sut.putIfAbsent("key", entry);
+        IdempotencyCache.Entry second = sut.putIfAbsent("key", new IdempotencyCache.Entry(dto));
+
+        // then
+        assertNull(first);
+        assertSame(entry, second);
+        assertEquals(1, sut.getHits());
+        assertEquals(1, sut.getMisses());
+    }
+
+    @Test
+    void shouldEvictOldestEntriesBeyondMaximumSize() {
+        // given
+        IdempotencyCache sut = new IdempotencyCache(3, 60);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            IdempotencyCache.Entry entry = new IdempotencyCache.Entry(dto);
+            sut.putIfAbsent("key-" + i, entry);
+            entry.complete(null);
+        }
+
+        // then
+        assertEquals(3, sut.size());
+        assertEquals(2, sut.getEvictions());
+        assertNull(sut.putIfAbsent("key-0", new IdempotencyCache.Entry(dto)));
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        // given
+        IdempotencyCache sut = new IdempotencyCache(10, 0);
+        IdempotencyCache.Entry entry = new IdempotencyCache.Entry(dto);
+        sut.putIfAbsent("key", entry);
+        entry.complete(null);
+
+        // when
+        IdempotencyCache.Entry previous = sut.putIfAbsent("key", new IdempotencyCache.Entry(dto));
+
+        // then
+        assertNull(previous);
+        assertEquals(2, sut.getMisses());
+    }
+
+    @Test
+    void shouldKeepInFlightEntriesWhenEvictingBySize() {
+        // given
+        IdempotencyCache sut = new IdempotencyCache(2, 60);
+        IdempotencyCache.Entry inFlight = new IdempotencyCache.Entry(dto);
+        sut.putIfAbsent("in-flight", inFlight);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            IdempotencyCache.Entry entry = new IdempotencyCache.Entry(dto);
+            sut.putIfAbsent("key-" + i, entry);
+            entry.complete(null);
+        }
+
+        // then
+        assertSame(inFlight, sut.putIfAbsent("in-flight", new IdempotencyCache.Entry(dto)));
+        assertEquals(2, sut.size());
+        assertEquals(2, sut.getEvictions());
+    }
+
+    @Test
+    void shouldNotExpireEntriesBeforeTheirTransferCompletes() {
+        // given
+        IdempotencyCache sut = new IdempotencyCache(10, 0);
+        IdempotencyCache.Entry entry = new IdempotencyCache.Entry(dto);
+        sut.putIfAbsent("key", entry);
+
+        // when
+        IdempotencyCache.Entry pending = sut.putIfAbsent("key", new IdempotencyCache.Entry(dto));
+        entry.complete(null);
+        IdempotencyCache.Entry completed = sut.putIfAbsent("key", new IdempotencyCache.Entry(dto));
+
+        // then
+        assertSame(entry, pending);
+        assertNull(completed);
+    }
+}
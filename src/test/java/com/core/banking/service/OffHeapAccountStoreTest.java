@@ -0,0 +1,144 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.dto.TransferResult;
+import com.core.banking.model.Account;
+import com.core.banking.model.Transaction;
+
+class OffHeapAccountStoreTest {
+
+    @Test
+    void shouldFindStoredAccounts() {
+        // given
+        OffHeapAccountStore sut = new OffHeapAccountStore(10_000);
+        List<Account> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Account account = new Account(UUID.randomUUID(), new BigDecimal(i), i % 2 == 0 ? "GBP" : "JPY", Timestamp.from(Instant.now()));
+            sut.put(account);
+            expected.add(account);
+        }
+
+        // when
+        List<Optional<Account>> actual = new ArrayList<>();
+        expected.forEach(account -> actual.add(sut.findById(account.getId())));
+
+        // then
+        assertEquals(expected.size(), sut.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertTrue(actual.get(i).isPresent());
+            assertEquals(expected.get(i).getId(), actual.get(i).get().getId());
+            assertEquals(expected.get(i).getBalance(), actual.get(i).get().getBalance());
+            assertEquals(expected.get(i).getCurrency(), actual.get(i).get().getCurrency());
+            assertEquals(expected.get(i).getCreatedAt(), actual.get(i).get().getCreatedAt());
+        }
+        assertFalse(sut.findById(UUID.randomUUID()).isPresent());
+    }
+
+    @Test
+    void shouldPersistSavedBalance() {
+        // given
+        OffHeapAccountStore sut = new OffHeapAccountStore(16);
+        UUID id = UUID.randomUUID();
+        sut.put(new Account(id, new BigDecimal(100), "GBP", Timestamp.from(Instant.now())));
+
+        // when
+        Account account = sut.findById(id).get();
+        account.debit(2550);
+        sut.save(account);
+
+        // then
+        assertEquals(new BigDecimal("74.50"), sut.findById(id).get().getBalance());
+    }
+
+    @Test
+    void shouldGrowBeyondInitialCapacity() {
+        // given
+        OffHeapAccountStore sut = new OffHeapAccountStore(2);
+        List<Account> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(new Account(UUID.randomUUID(), new BigDecimal(i), "GBP", Timestamp.from(Instant.now())));
+        }
+
+        // when
+        expected.forEach(sut::put);
+        Account account = sut.findById(expected.get(99).getId()).get();
+        account.debit(50);
+        sut.save(account);
+
+        // then
+        assertEquals(100, sut.size());
+        assertTrue(sut.capacity() >= 100);
+        assertTrue(expected.stream().allMatch(stored -> sut.findById(stored.getId()).isPresent()));
+        assertFalse(sut.put(expected.get(0)));
+        assertEquals(new BigDecimal("98.50"), sut.findById(expected.get(99).getId()).get().getBalance());
+        List<UUID> visited = new ArrayList<>();
+        sut.forEach(stored -> visited.add(stored.getId()));
+        assertEquals(100, visited.size());
+    }
+
+    @Test
+    void shouldTransferBetweenOffHeapAccounts() throws Exception {
+        // given
+        OffHeapAccountStore store = new OffHeapAccountStore(16);
+        UUID sourceId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        store.put(new Account(sourceId, new BigDecimal(100), "GBP", Timestamp.from(Instant.now())));
+        store.put(new Account(targetId, new BigDecimal(200), "GBP", Timestamp.from(Instant.now())));
+        TransactionService transactionService = transactionService(store);
+
+        // when
+        transactionService.transfer(new TransactionDto(sourceId, targetId, BigDecimal.TEN, "GBP"));
+
+        // then
+        assertEquals(new BigDecimal("90.00"), store.findById(sourceId).get().getBalance());
+        assertEquals(new BigDecimal("210.00"), store.findById(targetId).get().getBalance());
+    }
+
+    @Test
+    void shouldApplyAtomicBatchWithRepeatedSourceToOffHeapAccounts() throws Exception {
+        // given
+        OffHeapAccountStore store = new OffHeapAccountStore(16);
+        UUID sourceId = UUID.randomUUID();
+        UUID firstTargetId = UUID.randomUUID();
+        UUID secondTargetId = UUID.randomUUID();
+        store.put(new Account(sourceId, new BigDecimal(100), "GBP", Timestamp.from(Instant.now())));
+        store.put(new Account(firstTargetId, new BigDecimal(200), "GBP", Timestamp.from(Instant.now())));
+        store.put(new Account(secondTargetId, new BigDecimal(300), "GBP", Timestamp.from(Instant.now())));
+        TransactionService transactionService = transactionService(store);
+
+        // when
+        List<TransferResult> results = transactionService.transferBatch(List.of(
+                new TransactionDto(sourceId, firstTargetId, BigDecimal.TEN, "GBP"),
+                new TransactionDto(sourceId, secondTargetId, BigDecimal.TEN, "GBP"),
+                new TransactionDto(firstTargetId, sourceId, BigDecimal.ONE, "GBP")), true);
+
+        // then
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == Transaction.Status.SUCCESS));
+        assertEquals(new BigDecimal("81.00"), store.findById(sourceId).get().getBalance());
+        assertEquals(new BigDecimal("209.00"), store.findById(firstTargetId).get().getBalance());
+        assertEquals(new BigDecimal("310.00"), store.findById(secondTargetId).get().getBalance());
+    }
+
+    private TransactionService transactionService(AccountStore store) throws IOException {
+        return new TransactionService(new TransactionLedger(new ConcurrentHashMap<>()), new AccountService(store), new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), new TransactionJournal(false, null, 0), new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+    }
+}
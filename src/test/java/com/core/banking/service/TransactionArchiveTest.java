@@ -0,0 +1,193 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.core.banking.dto.TransactionFilter;
+import com.core.banking.dto.TransactionPage;
+import com.core.banking.exception.InvalidAmountException;
+import com.core.banking.exception.InvalidCurrencyException;
+import com.core.banking.exception.InvalidCursorException;
+import com.core.banking.model.Transaction;
+import com.core.banking.model.TransactionCursor;
+
+class TransactionArchiveTest {
+
+    static final Instant START = Instant.parse("2021-06-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    UUID accountId = UUID.randomUUID();
+
+    List<Transaction> added = new ArrayList<>();
+
+    Map<UUID, Transaction> transactions = new HashMap<>();
+
+    TransactionLedger sut;
+
+    @BeforeEach
+    void setUp() throws InvalidAmountException, InvalidCurrencyException {
+        sut = new TransactionLedger(transactions, archive());
+        for (int i = 0; i < 10; i++) {
+            add(START.plusSeconds(i * 30L), i);
+        }
+    }
+
+    @Test
+    void shouldQueryAcrossArchivedAndHotTransactions() throws Exception {
+        // given
+        sut.compact();
+        add(Instant.now(), 10);
+        List<Transaction> actual = new ArrayList<>();
+
+        // when
+        TransactionPage page = sut.findPage(TransactionFilter.ALL, null, 3);
+        actual.addAll(page.getTransactions());
+        while (page.getNextCursor() != null) {
+            page = sut.findPage(TransactionFilter.ALL, TransactionCursor.parse(page.getNextCursor()), 3);
+            actual.addAll(page.getTransactions());
+        }
+
+        // then
+        assertEquals(1, transactions.size());
+        assertEquals(added, actual);
+        assertEquals(added.get(4), sut.findById(added.get(4).getId()).get());
+        assertEquals(Transaction.Status.SUCCESS, sut.findById(added.get(4).getId()).get().getStatus());
+        assertEquals(added.get(4).getAmount(), sut.findById(added.get(4).getId()).get().getAmount());
+    }
+
+    @Test
+    void shouldKeepPendingTransactionsAndLaterOnesInHotTier() throws Exception {
+        // given
+        added.get(6).setStatus(Transaction.Status.PENDING);
+
+        // when
+        sut.compact();
+
+        // then
+        assertEquals(4, transactions.size());
+        assertEquals(Transaction.Status.PENDING, transactions.get(added.get(6).getId()).getStatus());
+        assertEquals(Transaction.Status.SUCCESS, sut.findById(added.get(4).getId()).get().getStatus());
+        assertEquals(Transaction.Status.FAIL, sut.findById(added.get(5).getId()).get().getStatus());
+    }
+
+    @Test
+    void shouldFilterArchivedTransactionsByAccountStatusAndTimeRange() throws Exception {
+        // given
+        sut.compact();
+        TransactionFilter filter = new TransactionFilter(accountId, Transaction.Status.SUCCESS, START.plusSeconds(30), START.plusSeconds(150));
+
+        // when
+        TransactionPage page = sut.findPage(filter, null, 100);
+
+        // then
+        assertEquals(List.of(added.get(2), added.get(4)), page.getTransactions());
+    }
+
+    @Test
+    void shouldServeArchivedTransactionsAfterRestartAndIgnoreReplayedOnes() throws Exception {
+        // given
+        sut.compact();
+        Map<UUID, Transaction> reopened = new HashMap<>();
+        TransactionLedger restarted = new TransactionLedger(reopened, archive());
+
+        // when
+        added.forEach(restarted::add);
+        List<Transaction> actual = new ArrayList<>();
+        restarted.forEach(new TransactionFilter(accountId, null, null, null), actual::add);
+
+        // then
+        assertTrue(reopened.isEmpty());
+        assertEquals(List.of(added.get(0), added.get(2), added.get(4), added.get(6), added.get(8)), actual);
+    }
+
+    @Test
+    void shouldLookUpArchivedTransactionsWithOneDiskReadAndSkipMisses() throws Exception {
+        // given
+        TransactionArchive archive = archive();
+        sut = new TransactionLedger(new HashMap<>(), archive);
+        added.clear();
+        for (int i = 0; i < 1000; i++) {
+            add(START.plusMillis(i * 600L), i);
+        }
+        sut.compact();
+
+        // when
+        for (Transaction transaction : added) {
+            assertEquals(transaction, sut.findById(transaction.getId()).get());
+        }
+        long hits = archive.getDiskReads();
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(sut.findById(UUID.randomUUID()).isPresent());
+        }
+        long misses = archive.getDiskReads() - hits;
+
+        // then
+        assertEquals(10, archive.bucketCount());
+        assertTrue(hits <= 1100);
+        assertTrue(misses < 100);
+    }
+
+    @Test
+    void shouldFindArchivedTransactionsWhileNewBucketsAreRegistered() throws Exception {
+        // given
+        TransactionArchive archive = archive();
+        Transaction first = added.get(0);
+        archive.archive(List.of(first), START.plusSeconds(60).toEpochMilli() * 1_000_000L);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong misses = new AtomicLong();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                if (!archive.findById(first.getId()).isPresent()) {
+                    misses.incrementAndGet();
+                }
+                archive.scan(TransactionFilter.ALL, null, Long.MAX_VALUE, (cursor, transaction) -> true);
+            }
+        });
+        reader.start();
+
+        // when
+        for (int i = 1; i <= 200; i++) {
+            Instant createdAt = START.plusSeconds(i * 60L);
+            Transaction transaction = new Transaction(UUID.randomUUID(), accountId, UUID.randomUUID(), BigDecimal.ONE, "GBP", Timestamp.from(createdAt));
+            transaction.setStatus(Transaction.Status.SUCCESS);
+            archive.archive(List.of(transaction), createdAt.plusSeconds(60).toEpochMilli() * 1_000_000L);
+        }
+        running.set(false);
+        reader.join();
+
+        // then
+        assertEquals(201, archive.bucketCount());
+        assertEquals(0, misses.get());
+    }
+
+    private TransactionArchive archive() {
+        return new TransactionArchive(true, directory.toString(), 60_000, 1, 2);
+    }
+
+    private void add(Instant createdAt, int i) throws InvalidAmountException, InvalidCurrencyException {
+        UUID source = i % 2 == 0 ? accountId : UUID.randomUUID();
+        Transaction transaction = new Transaction(UUID.randomUUID(), source, UUID.randomUUID(), new BigDecimal("10.25"), "GBP", Timestamp.from(createdAt));
+        transaction.setStatus(i < 5 ? Transaction.Status.SUCCESS : Transaction.Status.FAIL);
+        sut.add(transaction);
+        added.add(transaction);
+    }
+}
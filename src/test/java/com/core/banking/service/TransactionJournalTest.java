@@ -0,0 +1,303 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.dto.AccountDto;
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.exception.AccountNotFoundException;
+import com.core.banking.exception.InsufficientBalanceException;
+import com.core.banking.exception.InvalidAmountException;
+import com.core.banking.exception.InvalidCurrencyException;
+import com.core.banking.exception.SameAccountException;
+import com.core.banking.model.Account;
+import com.core.banking.model.Transaction;
+
+class TransactionJournalTest {
+
+    static final long REGION_SIZE = TransactionJournal.RECORD_SIZE * 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReplayAppendedTransactionsAfterReopen() throws IOException, InvalidAmountException, InvalidCurrencyException {
+        // given
+        String path = directory.resolve("transactions.journal").toString();
+        TransactionJournal journal = new TransactionJournal(true, path, REGION_SIZE);
+        List<Transaction> expected = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            Transaction transaction = new Transaction(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("1.5").multiply(BigDecimal.valueOf(i)), "GBP", Timestamp.from(Instant.now()));
+            journal.awaitDurable(journal.append(transaction, transaction.getAmountMinorUnits(), transaction.getAmountMinorUnits()));
+            expected.add(transaction);
+        }
+        journal.close();
+
+        // when
+        TransactionJournal reopened = new TransactionJournal(true, path, REGION_SIZE);
+        List<TransactionJournal.Entry> actual = new ArrayList<>();
+        reopened.replay(actual::add);
+        reopened.close();
+
+        // then
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, actual.get(i).getSequence());
+            assertEquals(expected.get(i).getId(), actual.get(i).getTransactionId());
+            assertEquals(expected.get(i).getSourceAccountId(), actual.get(i).getSourceAccountId());
+            assertEquals(expected.get(i).getTargetAccountId(), actual.get(i).getTargetAccountId());
+            assertEquals(expected.get(i).getAmountMinorUnits(), actual.get(i).getAmountMinorUnits());
+            assertEquals(expected.get(i).getAmountMinorUnits(), actual.get(i).getDebit());
+            assertEquals(expected.get(i).getCurrency(), actual.get(i).getCurrency());
+            assertEquals(expected.get(i).getCreatedAt().toInstant(), actual.get(i).getCreatedAt().toInstant());
+        }
+    }
+
+    @Test
+    void shouldDiscardTornRecordAtTail() throws IOException, InvalidAmountException, InvalidCurrencyException {
+        // given
+        Path path = directory.resolve("transactions.journal");
+        TransactionJournal journal = new TransactionJournal(true, path.toString(), REGION_SIZE);
+        for (int i = 0; i < 3; i++) {
+            Transaction transaction = new Transaction(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN, "GBP", Timestamp.from(Instant.now()));
+            journal.awaitDurable(journal.append(transaction, transaction.getAmountMinorUnits(), transaction.getAmountMinorUnits()));
+        }
+        journal.close();
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(2 * TransactionJournal.RECORD_SIZE + 10);
+            file.write(0xFF);
+        }
+
+        // when
+        TransactionJournal reopened = new TransactionJournal(true, path.toString(), REGION_SIZE);
+
+        // then
+        assertEquals(2, reopened.size());
+        reopened.close();
+    }
+
+    @Test
+    void shouldCompleteDurabilityFuturesInSequenceOrder() throws IOException, InvalidAmountException, InvalidCurrencyException {
+        // given
+        TransactionJournal journal = new TransactionJournal(true, directory.resolve("transactions.journal").toString(), REGION_SIZE);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            Transaction transaction = new Transaction(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN, "GBP", Timestamp.from(Instant.now()));
+            futures.add(journal.whenDurable(journal.append(transaction, transaction.getAmountMinorUnits(), transaction.getAmountMinorUnits())));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        // then
+        assertEquals(10, journal.durableSize());
+        assertTrue(journal.whenDurable(9).isDone());
+        assertTrue(journal.whenDurable(-1).isDone());
+        journal.close();
+    }
+
+    @Test
+    void shouldRebuildAccountBalancesFromJournalOnStartup() throws IOException, InvalidAmountException, InvalidCurrencyException, AccountNotFoundException, InsufficientBalanceException, SameAccountException {
+        // given
+        String path = directory.resolve("transactions.journal").toString();
+        UUID sourceId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        TransactionJournal journal = new TransactionJournal(true, path, REGION_SIZE);
+        TransactionService service = new TransactionService(new TransactionLedger(new ConcurrentHashMap<>()), new AccountService(accounts(sourceId, targetId)), new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), journal, new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+        for (int i = 0; i < 7; i++) {
+            service.transfer(new TransactionDto(sourceId, targetId, BigDecimal.TEN, "GBP"));
+        }
+        journal.close();
+
+        // when
+        Map<UUID, Account> accounts = accounts(sourceId, targetId);
+        Map<UUID, Transaction> transactions = new HashMap<>();
+        TransactionJournal reopened = new TransactionJournal(true, path, REGION_SIZE);
+        new TransactionService(new TransactionLedger(transactions), new AccountService(accounts), new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), reopened, new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024)).recover();
+        reopened.close();
+
+        // then
+        assertEquals(new BigDecimal("30.00"), accounts.get(sourceId).getBalance());
+        assertEquals(new BigDecimal("270.00"), accounts.get(targetId).getBalance());
+        assertEquals(7, transactions.size());
+        assertTrue(transactions.values().stream().allMatch(transaction -> transaction.getStatus() == Transaction.Status.SUCCESS));
+    }
+
+    @Test
+    void shouldRecoverOpenedAccountsAndTheirTransfersFromJournal() throws Exception {
+        // given
+        String path = directory.resolve("transactions.journal").toString();
+        UUID sourceId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        UUID openedId = UUID.randomUUID();
+        TransactionJournal journal = new TransactionJournal(true, path, REGION_SIZE);
+        AccountService accountService = new AccountService(new HeapAccountStore(accounts(sourceId, targetId)), journal, "", 1);
+        TransactionService service = new TransactionService(new TransactionLedger(new ConcurrentHashMap<>()), accountService, new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), journal, new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+        accountService.open(new AccountDto(openedId, new BigDecimal("50.25"), "GBP"));
+        service.transfer(new TransactionDto(openedId, targetId, BigDecimal.TEN, "GBP"));
+        journal.close();
+
+        // when
+        Map<UUID, Account> accounts = accounts(sourceId, targetId);
+        TransactionJournal reopened = new TransactionJournal(true, path, REGION_SIZE);
+        new TransactionService(new TransactionLedger(new HashMap<>()), new AccountService(accounts), new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), reopened, new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024)).recover();
+        reopened.close();
+
+        // then
+        assertEquals(new BigDecimal("40.25"), accounts.get(openedId).getBalance());
+        assertEquals(new BigDecimal("210.00"), accounts.get(targetId).getBalance());
+    }
+
+    @Test
+    void shouldRecoverAccountsOpenedBeyondOffHeapStoreCapacity() throws Exception {
+        // given
+        String path = directory.resolve("transactions.journal").toString();
+        TransactionJournal journal = new TransactionJournal(true, path, REGION_SIZE);
+        AccountService accountService = new AccountService(new OffHeapAccountStore(2), journal, "", 1);
+        List<UUID> opened = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            opened.add(accountService.open(new AccountDto(UUID.randomUUID(), BigDecimal.TEN, "GBP")).getId());
+        }
+        journal.close();
+
+        // when
+        OffHeapAccountStore restarted = new OffHeapAccountStore(2);
+        TransactionJournal reopened = new TransactionJournal(true, path, REGION_SIZE);
+        new TransactionService(new TransactionLedger(new HashMap<>()), new AccountService(restarted), new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), reopened, new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024)).recover();
+        reopened.close();
+
+        // then
+        assertEquals(10, restarted.size());
+        assertTrue(opened.stream().allMatch(id -> restarted.findById(id).isPresent()));
+    }
+
+    @Test
+    void shouldDiscardUndurableTransfersSoRestartRestoresBalancesFromBeforeFlushFailure() throws Exception {
+        // given
+        UUID sourceId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        Map<UUID, Account> accounts = accounts(sourceId, targetId);
+        BigDecimal sourceBalance = accounts.get(sourceId).getBalance();
+        BigDecimal targetBalance = accounts.get(targetId).getBalance();
+        TransactionJournal journal = failingJournal();
+        TransactionService service = service(accounts, journal);
+
+        // when
+        assertThrows(UncheckedIOException.class, () -> service.transfer(new TransactionDto(sourceId, targetId, BigDecimal.TEN, "GBP")));
+        assertThrows(UncheckedIOException.class, () -> service.transfer(new TransactionDto(sourceId, targetId, BigDecimal.TEN, "GBP")));
+        journal.close();
+        Map<UUID, Account> restarted = restart(sourceId, targetId);
+
+        // then
+        assertTrue(journal.isFailed());
+        assertEquals(0, journal.size());
+        assertEquals(sourceBalance, restarted.get(sourceId).getBalance());
+        assertEquals(targetBalance, restarted.get(targetId).getBalance());
+    }
+
+    @Test
+    void shouldReportFlushFailureOnRetryWithoutRunningTransferAgain() throws Exception {
+        // given
+        UUID sourceId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        Map<UUID, Account> accounts = accounts(sourceId, targetId);
+        BigDecimal sourceBalance = accounts.get(sourceId).getBalance();
+        BigDecimal targetBalance = accounts.get(targetId).getBalance();
+        TransactionJournal journal = failingJournal();
+        TransactionService service = service(accounts, journal);
+        TransactionDto dto = new TransactionDto(sourceId, targetId, BigDecimal.TEN, "GBP");
+
+        // when
+        UncheckedIOException first = assertThrows(UncheckedIOException.class, () -> service.transfer("key", dto));
+        UncheckedIOException retried = assertThrows(UncheckedIOException.class, () -> service.transfer("key", dto));
+        journal.close();
+        Map<UUID, Account> restarted = restart(sourceId, targetId);
+
+        // then
+        assertSame(first, retried);
+        assertEquals(1, service.findAll().size());
+        assertTrue(service.findAll().stream().allMatch(transaction -> transaction.getStatus() == Transaction.Status.FAIL));
+        assertEquals(sourceBalance, restarted.get(sourceId).getBalance());
+        assertEquals(targetBalance, restarted.get(targetId).getBalance());
+    }
+
+    @Test
+    void shouldReportFlushFailureOnAsyncRetryWithoutRunningTransferAgain() throws Exception {
+        // given
+        UUID sourceId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+        Map<UUID, Account> accounts = accounts(sourceId, targetId);
+        BigDecimal sourceBalance = accounts.get(sourceId).getBalance();
+        BigDecimal targetBalance = accounts.get(targetId).getBalance();
+        TransactionJournal journal = failingJournal();
+        TransactionService service = service(accounts, journal);
+        TransactionDto dto = new TransactionDto(sourceId, targetId, BigDecimal.TEN, "GBP");
+
+        // when
+        CompletableFuture<Void> first = service.transferAsync("key", dto);
+        CompletionException failure = assertThrows(CompletionException.class, first::join);
+        CompletableFuture<Void> retried = service.transferAsync("key", dto);
+        journal.close();
+        Map<UUID, Account> restarted = restart(sourceId, targetId);
+
+        // then
+        assertSame(failure.getCause(), assertThrows(CompletionException.class, retried::join).getCause());
+        assertEquals(1, service.findAll().size());
+        assertTrue(service.findAll().stream().allMatch(transaction -> transaction.getStatus() == Transaction.Status.FAIL));
+        assertEquals(sourceBalance, restarted.get(sourceId).getBalance());
+        assertEquals(targetBalance, restarted.get(targetId).getBalance());
+    }
+
+    private TransactionJournal failingJournal() throws IOException {
+        return new TransactionJournal(true, directory.resolve("transactions.journal").toString(), REGION_SIZE) {
+            @Override
+            void force(MappedByteBuffer region) {
+                throw new UncheckedIOException(new IOException("no space left on device"));
+            }
+        };
+    }
+
+    private Map<UUID, Account> restart(UUID sourceId, UUID targetId) throws IOException {
+        Map<UUID, Account> accounts = accounts(sourceId, targetId);
+        TransactionJournal reopened = new TransactionJournal(true, directory.resolve("transactions.journal").toString(), REGION_SIZE);
+        service(accounts, reopened).recover();
+        reopened.close();
+        return accounts;
+    }
+
+    private TransactionService service(Map<UUID, Account> accounts, TransactionJournal journal) throws IOException {
+        return new TransactionService(new TransactionLedger(new ConcurrentHashMap<>()), new AccountService(accounts), new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), journal, new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+    }
+
+    private Map<UUID, Account> accounts(UUID sourceId, UUID targetId) {
+        Map<UUID, Account> accounts = new ConcurrentHashMap<>();
+        accounts.put(sourceId, new Account(sourceId, new BigDecimal(100), "GBP", Timestamp.from(Instant.now())));
+        accounts.put(targetId, new Account(targetId, new BigDecimal(200), "GBP", Timestamp.from(Instant.now())));
+        return accounts;
+    }
+}
@@ -0,0 +1,105 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.core.banking.dto.TransactionFilter;
+import com.core.banking.dto.TransactionPage;
+import com.core.banking.exception.InvalidAmountException;
+import com.core.banking.exception.InvalidCurrencyException;
+import com.core.banking.exception.InvalidCursorException;
+import com.core.banking.model.Transaction;
+import com.core.banking.model.TransactionCursor;
+
+class TransactionLedgerTest {
+
+    static final Instant START = Instant.parse("2021-06-01T00:00:00Z");
+
+    UUID accountId = UUID.randomUUID();
+
+    List<Transaction> added = new ArrayList<>();
+
+    TransactionLedger sut;
+
+    @BeforeEach
+    void setUp() throws InvalidAmountException, InvalidCurrencyException {
+        sut = new TransactionLedger(new HashMap<>());
+        for (int i = 0; i < 10; i++) {
+            UUID source = i % 2 == 0 ? accountId : UUID.randomUUID();
+            Transaction transaction = new Transaction(UUID.randomUUID(), source, UUID.randomUUID(), BigDecimal.TEN, "GBP", Timestamp.from(START.plusSeconds(i)));
+            transaction.setStatus(i < 5 ? Transaction.Status.SUCCESS : Transaction.Status.FAIL);
+            sut.add(transaction);
+            added.add(transaction);
+        }
+    }
+
+    @Test
+    void shouldPageThroughTransactionsInCreationOrder() throws InvalidCursorException {
+        // given
+        List<Transaction> actual = new ArrayList<>();
+
+        // when
+        TransactionPage page = sut.findPage(TransactionFilter.ALL, null, 4);
+        actual.addAll(page.getTransactions());
+        while (page.getNextCursor() != null) {
+            page = sut.findPage(TransactionFilter.ALL, TransactionCursor.parse(page.getNextCursor()), 4);
+            actual.addAll(page.getTransactions());
+        }
+
+        // then
+        assertEquals(added, actual);
+    }
+
+    @Test
+    void shouldFilterByAccountStatusAndTimeRange() {
+        // given
+        TransactionFilter filter = new TransactionFilter(accountId, Transaction.Status.SUCCESS, START.plusSeconds(1), START.plusSeconds(4));
+
+        // when
+        TransactionPage page = sut.findPage(filter, null, 100);
+
+        // then
+        assertEquals(added.subList(2, 3), page.getTransactions());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void shouldReturnNextCursorOnlyWhenMoreTransactionsMatch() {
+        // given
+        TransactionFilter filter = new TransactionFilter(accountId, null, null, null);
+
+        // when
+        TransactionPage first = sut.findPage(filter, null, 4);
+        TransactionPage last = sut.findPage(filter, null, 5);
+
+        // then
+        assertNotNull(first.getNextCursor());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void shouldIndexTransactionsByTargetAccount() {
+        // given
+        Transaction expected = added.get(3);
+        TransactionFilter filter = new TransactionFilter(expected.getTargetAccountId(), null, null, null);
+
+        // when
+        TransactionPage page = sut.findPage(filter, null, 100);
+
+        // then
+        assertEquals(Collections.singletonList(expected), page.getTransactions());
+    }
+}
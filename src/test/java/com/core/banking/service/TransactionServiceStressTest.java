@@ -0,0 +1,185 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.core.banking.dto.TransactionDto;
+import com.core.banking.exception.InsufficientBalanceException;
+import com.core.banking.model.Account;
+import com.core.banking.model.Transaction;
+
+class TransactionServiceStressTest {
+
+    static final int ACCOUNTS = 64;
+    static final int THREADS = 8;
+    static final int TRANSFERS = Integer.getInteger("stress.transfers", 1_000_000);
+
+    Map<UUID, Account> accounts = new ConcurrentHashMap<>();
+
+    Map<UUID, Transaction> transactions = new ConcurrentHashMap<>();
+
+    List<UUID> ids = new ArrayList<>();
+
+    TransactionService sut;
+
+    TransferShards sequencer = new TransferShards(TransferShards.SEQUENCER, 1, 1024, TransferSequencer.WaitStrategy.YIELD);
+
+    TransferShards shards = new TransferShards(TransferShards.SHARDED, 4, 1024, TransferSequencer.WaitStrategy.YIELD);
+
+    TransactionService sequenced;
+
+    TransactionService sharded;
+
+    AccountService hotAccountService;
+
+    TransactionService hot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        for (int i = 0; i < ACCOUNTS; i++) {
+            Account account = new Account(UUID.randomUUID(), new BigDecimal(1000), "GBP", Timestamp.from(Instant.now()));
+            accounts.put(account.getId(), account);
+            ids.add(account.getId());
+        }
+        sut = new TransactionService(new TransactionLedger(transactions), new AccountService(accounts), new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), new TransactionJournal(false, null, 0), new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+        sequenced = new TransactionService(new TransactionLedger(transactions), new AccountService(accounts), new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), new TransactionJournal(false, null, 0), new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), sequencer, new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+        sharded = new TransactionService(new TransactionLedger(transactions), new AccountService(accounts), new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), new TransactionJournal(false, null, 0), new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), shards, new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+        hotAccountService = new AccountService(new HeapAccountStore(accounts), ids.get(0).toString(), 8);
+        hot = new TransactionService(new TransactionLedger(transactions), hotAccountService, new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), new TransactionJournal(false, null, 0), new IdempotencyCache(1000, 60), new TransferMetrics(new SimpleMeterRegistry(), 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sequencer.close();
+        shards.close();
+    }
+
+    @Test
+    void shouldConserveTotalBalanceUnderConcurrentRandomTransfers() throws Exception {
+        assertTotalBalanceConserved(sut);
+    }
+
+    @Test
+    void shouldConserveTotalBalanceUnderConcurrentRandomTransfersThroughSequencer() throws Exception {
+        assertTotalBalanceConserved(sequenced);
+    }
+
+    @Test
+    void shouldConserveTotalBalanceUnderConcurrentRandomTransfersAcrossShards() throws Exception {
+        assertTotalBalanceConserved(sharded);
+    }
+
+    @Test
+    void shouldConserveTotalBalanceUnderConcurrentTransfersToHotAccount() throws Exception {
+        // given
+        BigDecimal expectedTotal = totalBalance(hotAccountService);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < TRANSFERS / THREADS; i++) {
+                    UUID source = ids.get(random.nextInt(ACCOUNTS));
+                    UUID target = random.nextInt(10) < 9 ? ids.get(0) : ids.get(random.nextInt(ACCOUNTS));
+                    if (source.equals(target)) {
+                        continue;
+                    }
+                    try {
+                        hot.transfer(new TransactionDto(source, target, new BigDecimal(random.nextInt(1, 20)), "GBP"));
+                    } catch (InsufficientBalanceException e) {
+                        continue;
+                    }
+                    if (i % 1000 == 0) {
+                        hot.rebalanceHotAccounts();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(expectedTotal, totalBalance(hotAccountService));
+        assertTrue(hotAccountService.findById(ids.get(0)).get().isSplit());
+        assertTrue(hotAccountService.findById(ids.get(0)).get().getBalance().signum() > 0);
+        hotAccountService.forEach(account -> assertTrue(account.getBalance().signum() >= 0));
+    }
+
+    private void assertTotalBalanceConserved(TransactionService sut) throws Exception {
+        // given
+        BigDecimal expectedTotal = totalBalance();
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < TRANSFERS / THREADS; i++) {
+                    UUID source = ids.get(random.nextInt(ACCOUNTS));
+                    UUID target = ids.get(random.nextInt(ACCOUNTS));
+                    if (source.equals(target)) {
+                        continue;
+                    }
+                    try {
+                        sut.transfer(new TransactionDto(source, target, new BigDecimal(random.nextInt(1, 200)), "GBP"));
+                        succeeded.incrementAndGet();
+                    } catch (InsufficientBalanceException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(expectedTotal, totalBalance());
+        assertTrue(succeeded.get() > 0);
+        assertTrue(accounts.values().stream().allMatch(account -> account.getBalance().signum() >= 0));
+        assertEquals(succeeded.get(), transactions.values().stream().filter(t -> t.getStatus() == Transaction.Status.SUCCESS).count());
+        assertEquals(rejected.get(), transactions.values().stream().filter(t -> t.getStatus() == Transaction.Status.FAIL).count());
+    }
+
+    private BigDecimal totalBalance() {
+        return accounts.values().stream().map(Account::getBalance).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private BigDecimal totalBalance(AccountService accountService) {
+        List<BigDecimal> balances = new ArrayList<>();
+        accountService.forEach(account -> balances.add(account.getBalance()));
+        return balances.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
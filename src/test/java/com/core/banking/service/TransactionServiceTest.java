@@ -5,21 +5,31 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import com.core.banking.dto.TransactionDto;
+import com.core.banking.dto.TransferResult;
 import com.core.banking.exception.AccountNotFoundException;
+import com.core.banking.exception.IdempotencyKeyReusedException;
 import com.core.banking.exception.InsufficientBalanceException;
 import com.core.banking.exception.InvalidAmountException;
 import com.core.banking.exception.InvalidCurrencyException;
@@ -33,13 +43,15 @@ class TransactionServiceTest {
 
     AccountService accountService = Mockito.mock(AccountService.class);
 
-    MockedCurrencyConversionService mockedCurrencyConversionService = Mockito.mock(MockedCurrencyConversionService.class);
+    CurrencyConversionService currencyConversionService = Mockito.mock(CurrencyConversionService.class);
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     TransactionService sut;
 
     @BeforeEach
-    void setUp() {
-        sut = new TransactionService(transactions, accountService, mockedCurrencyConversionService);
+    void setUp() throws IOException {
+        sut = new TransactionService(new TransactionLedger(transactions), accountService, currencyConversionService, new AccountLocks(16), new TransactionJournal(false, null, 0), new IdempotencyCache(1000, 60), new TransferMetrics(meterRegistry, 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
     }
 
     @Test
@@ -51,15 +63,15 @@ class TransactionServiceTest {
 
         Mockito.when(accountService.findById(source.getId())).thenReturn(Optional.of(source));
         Mockito.when(accountService.findById(target.getId())).thenReturn(Optional.of(target));
-        Mockito.when(mockedCurrencyConversionService.convert(dto.getAmount(), dto.getCurrency(), source.getCurrency())).thenReturn(dto.getAmount());
-        Mockito.when(mockedCurrencyConversionService.convert(dto.getAmount(), dto.getCurrency(), target.getCurrency())).thenReturn(dto.getAmount());
+        Mockito.when(currencyConversionService.convert(10000L, source.getCurrencyCode(), source.getCurrencyCode(), RoundingMode.CEILING)).thenReturn(10000L);
+        Mockito.when(currencyConversionService.convert(10000L, target.getCurrencyCode(), target.getCurrencyCode(), RoundingMode.FLOOR)).thenReturn(10000L);
 
         // when
         sut.transfer(dto);
 
         // then
-        assertEquals(new BigDecimal(0), source.getBalance());
-        assertEquals(new BigDecimal(300), target.getBalance());
+        assertEquals(new BigDecimal("0.00"), source.getBalance());
+        assertEquals(new BigDecimal("300.00"), target.getBalance());
         Optional<Transaction> transaction = transactions.values().stream().findFirst();
         assertTrue(transaction.isPresent());
         assertEquals(dto.getSourceAccountId(), transaction.get().getSourceAccountId());
@@ -85,7 +97,7 @@ class TransactionServiceTest {
         assertThrows(AccountNotFoundException.class, () -> sut.transfer(dto));
 
         // then
-        assertEquals(new BigDecimal(200), target.getBalance());
+        assertEquals(new BigDecimal("200.00"), target.getBalance());
         Optional<Transaction> transaction = transactions.values().stream().findFirst();
         assertTrue(transaction.isPresent());
         assertEquals(dto.getSourceAccountId(), transaction.get().getSourceAccountId());
@@ -111,7 +123,7 @@ class TransactionServiceTest {
         assertThrows(AccountNotFoundException.class, () -> sut.transfer(dto));
 
         // then
-        assertEquals(new BigDecimal(200), source.getBalance());
+        assertEquals(new BigDecimal("200.00"), source.getBalance());
         Optional<Transaction> transaction = transactions.values().stream().findFirst();
         assertTrue(transaction.isPresent());
         assertEquals(dto.getSourceAccountId(), transaction.get().getSourceAccountId());
@@ -135,7 +147,7 @@ class TransactionServiceTest {
         assertThrows(SameAccountException.class, () -> sut.transfer(dto));
 
         // then
-        assertEquals(new BigDecimal(200), source.getBalance());
+        assertEquals(new BigDecimal("200.00"), source.getBalance());
         Optional<Transaction> transaction = transactions.values().stream().findFirst();
         assertTrue(transaction.isPresent());
         assertEquals(dto.getSourceAccountId(), transaction.get().getSourceAccountId());
@@ -148,7 +160,7 @@ class TransactionServiceTest {
     }
 
     @Test
-    void shouldThrowExceptionWhenSourceAccountHasInsufficientBalance() {
+    void shouldThrowExceptionWhenSourceAccountHasInsufficientBalance() throws InvalidCurrencyException {
         // given
         Account source = new Account(UUID.randomUUID(), new BigDecimal(100), "GBP", Timestamp.from(Instant.now()));
         Account target = new Account(UUID.randomUUID(), new BigDecimal(200), "GBP", Timestamp.from(Instant.now()));
@@ -156,15 +168,15 @@ class TransactionServiceTest {
 
         Mockito.when(accountService.findById(source.getId())).thenReturn(Optional.of(source));
         Mockito.when(accountService.findById(target.getId())).thenReturn(Optional.of(target));
-        Mockito.when(mockedCurrencyConversionService.convert(dto.getAmount(), dto.getCurrency(), source.getCurrency())).thenReturn(dto.getAmount());
-        Mockito.when(mockedCurrencyConversionService.convert(dto.getAmount(), dto.getCurrency(), target.getCurrency())).thenReturn(dto.getAmount());
+        Mockito.when(currencyConversionService.convert(50000L, source.getCurrencyCode(), source.getCurrencyCode(), RoundingMode.CEILING)).thenReturn(50000L);
+        Mockito.when(currencyConversionService.convert(50000L, target.getCurrencyCode(), target.getCurrencyCode(), RoundingMode.FLOOR)).thenReturn(50000L);
 
         // when
         assertThrows(InsufficientBalanceException.class, () -> sut.transfer(dto));
 
         // then
-        assertEquals(new BigDecimal(100), source.getBalance());
-        assertEquals(new BigDecimal(200), target.getBalance());
+        assertEquals(new BigDecimal("100.00"), source.getBalance());
+        assertEquals(new BigDecimal("200.00"), target.getBalance());
         Optional<Transaction> transaction = transactions.values().stream().findFirst();
         assertTrue(transaction.isPresent());
         assertEquals(dto.getSourceAccountId(), transaction.get().getSourceAccountId());
@@ -191,4 +203,231 @@ class TransactionServiceTest {
         // then
         assertEquals(expected, actual);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldTransferBatchWithPerItemResults() throws InvalidCurrencyException {
+        // given
+        Account source = new Account(UUID.randomUUID(), new BigDecimal(100), "GBP", Timestamp.from(Instant.now()));
+        Account target = new Account(UUID.randomUUID(), new BigDecimal(200), "GBP", Timestamp.from(Instant.now()));
+        List<TransactionDto> dtos = Arrays.asList(
+                new TransactionDto(source.getId(), target.getId(), new BigDecimal(60), "GBP"),
+                new TransactionDto(source.getId(), target.getId(), new BigDecimal(60), "GBP"),
+                new TransactionDto(source.getId(), target.getId(), new BigDecimal(-1), "GBP"),
+                new TransactionDto(source.getId(), target.getId(), new BigDecimal(40), "GBP"));
+
+        Mockito.when(accountService.findById(source.getId())).thenReturn(Optional.of(source));
+        Mockito.when(accountService.findById(target.getId())).thenReturn(Optional.of(target));
+        Mockito.when(currencyConversionService.convert(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any())).then(invocation -> invocation.getArgument(0));
+
+        // when
+        List<TransferResult> results = sut.transferBatch(dtos, false);
+
+        // then
+        assertEquals(Arrays.asList(Transaction.Status.SUCCESS, Transaction.Status.FAIL, Transaction.Status.FAIL, Transaction.Status.SUCCESS),
+                results.stream().map(TransferResult::getStatus).collect(Collectors.toList()));
+        assertEquals("insufficient balance in source account", results.get(1).getError());
+        assertEquals("Transaction amount (-1) is invalid", results.get(2).getError());
+        assertEquals(new BigDecimal("0.00"), source.getBalance());
+        assertEquals(new BigDecimal("300.00"), target.getBalance());
+        assertEquals(3, transactions.size());
+    }
+
+    @Test
+    void shouldRejectWholeBatchWhenAtomicAndAnyTransferFails() throws InvalidCurrencyException {
+        // given
+        Account source = new Account(UUID.randomUUID(), new BigDecimal(100), "GBP", Timestamp.from(Instant.now()));
+        Account target = new Account(UUID.randomUUID(), new BigDecimal(200), "GBP", Timestamp.from(Instant.now()));
+        List<TransactionDto> dtos = Arrays.asList(
+                new TransactionDto(source.getId(), target.getId(), new BigDecimal(60), "GBP"),
+                new TransactionDto(source.getId(), target.getId(), new BigDecimal(60), "GBP"));
+
+        Mockito.when(accountService.findById(source.getId())).thenReturn(Optional.of(source));
+        Mockito.when(accountService.findById(target.getId())).thenReturn(Optional.of(target));
+        Mockito.when(currencyConversionService.convert(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any())).then(invocation -> invocation.getArgument(0));
+
+        // when
+        List<TransferResult> results = sut.transferBatch(dtos, true);
+
+        // then
+        assertEquals("batch rejected", results.get(0).getError());
+        assertEquals("insufficient balance in source account", results.get(1).getError());
+        assertEquals(new BigDecimal("100.00"), source.getBalance());
+        assertEquals(new BigDecimal("200.00"), target.getBalance());
+        assertTrue(transactions.values().stream().allMatch(transaction -> transaction.getStatus() == Transaction.Status.FAIL));
+    }
+
+    @Test
+    void shouldApplyWholeBatchWhenAtomicAndAllTransfersSucceed() throws InvalidCurrencyException {
+        // given
+        Account source = new Account(UUID.randomUUID(), new BigDecimal(100), "GBP", Timestamp.from(Instant.now()));
+        Account target = new Account(UUID.randomUUID(), new BigDecimal(200), "GBP", Timestamp.from(Instant.now()));
+        List<TransactionDto> dtos = Arrays.asList(
+                new TransactionDto(source.getId(), target.getId(), new BigDecimal(60), "GBP"),
+                new TransactionDto(target.getId(), source.getId(), new BigDecimal(10), "GBP"),
+                new TransactionDto(source.getId(), target.getId(), new BigDecimal(50), "GBP"));
+
+        Mockito.when(accountService.findById(source.getId())).thenReturn(Optional.of(source));
+        Mockito.when(accountService.findById(target.getId())).thenReturn(Optional.of(target));
+        Mockito.when(currencyConversionService.convert(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any())).then(invocation -> invocation.getArgument(0));
+
+        // when
+        List<TransferResult> results = sut.transferBatch(dtos, true);
+
+        // then
+        assertTrue(results.stream().allMatch(result -> result.getStatus() == Transaction.Status.SUCCESS));
+        assertEquals(new BigDecimal("0.00"), source.getBalance());
+        assertEquals(new BigDecimal("300.00"), target.getBalance());
+    }
+
+    @Test
+    void shouldNotTransferTwiceWhenIdempotencyKeyIsRetried() throws Exception {
+        // given
+        Account source = new Account(UUID.randomUUID(), new BigDecimal(100), "GBP", Timestamp.from(Instant.now()));
+        Account target = new Account(UUID.randomUUID(), new BigDecimal(200), "GBP", Timestamp.from(Instant.now()));
+        TransactionDto dto = new TransactionDto(source.getId(), target.getId(), new BigDecimal(60), "GBP");
+
+        Mockito.when(accountService.findById(source.getId())).thenReturn(Optional.of(source));
+        Mockito.when(accountService.findById(target.getId())).thenReturn(Optional.of(target));
+        Mockito.when(currencyConversionService.convert(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any())).then(invocation -> invocation.getArgument(0));
+
+        // when
+        sut.transfer("key", dto);
+        sut.transfer("key", new TransactionDto(source.getId(), target.getId(), new BigDecimal("60.00"), "GBP"));
+
+        // then
+        assertEquals(new BigDecimal("40.00"), source.getBalance());
+        assertEquals(new BigDecimal("260.00"), target.getBalance());
+        assertEquals(1, transactions.size());
+    }
+
+    @Test
+    void shouldReplayOriginalFailureWhenIdempotencyKeyIsRetried() throws Exception {
+        // given
+        Account source = new Account(UUID.randomUUID(), new BigDecimal(100), "GBP", Timestamp.from(Instant.now()));
+        Account target = new Account(UUID.randomUUID(), new BigDecimal(200), "GBP", Timestamp.from(Instant.now()));
+        TransactionDto dto = new TransactionDto(source.getId(), target.getId(), new BigDecimal(150), "GBP");
+
+        Mockito.when(accountService.findById(source.getId())).thenReturn(Optional.of(source));
+        Mockito.when(accountService.findById(target.getId())).thenReturn(Optional.of(target));
+        Mockito.when(currencyConversionService.convert(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any())).then(invocation -> invocation.getArgument(0));
+
+        // when
+        assertThrows(InsufficientBalanceException.class, () -> sut.transfer("key", dto));
+        source.credit(10000);
+        assertThrows(InsufficientBalanceException.class, () -> sut.transfer("key", dto));
+
+        // then
+        assertEquals(new BigDecimal("200.00"), source.getBalance());
+        assertEquals(1, transactions.size());
+    }
+
+    @Test
+    void shouldCompleteAsyncTransferAndReplayItForSameIdempotencyKey() throws Exception {
+        // given
+        Account source = new Account(UUID.randomUUID(), new BigDecimal(100), "GBP", Timestamp.from(Instant.now()));
+        Account target = new Account(UUID.randomUUID(), new BigDecimal(200), "GBP", Timestamp.from(Instant.now()));
+        TransactionDto dto = new TransactionDto(source.getId(), target.getId(), new BigDecimal(30), "GBP");
+
+        Mockito.when(accountService.findById(source.getId())).thenReturn(Optional.of(source));
+        Mockito.when(accountService.findById(target.getId())).thenReturn(Optional.of(target));
+        Mockito.when(currencyConversionService.convert(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any())).then(invocation -> invocation.getArgument(0));
+
+        // when
+        CompletableFuture<Void> first = sut.transferAsync("key", dto);
+        CompletableFuture<Void> second = sut.transferAsync("key", dto);
+
+        // then
+        first.join();
+        second.join();
+        assertEquals(new BigDecimal("70.00"), source.getBalance());
+        assertEquals(new BigDecimal("230.00"), target.getBalance());
+        assertEquals(1, transactions.size());
+        assertTrue(transactions.values().stream().allMatch(transaction -> transaction.getStatus() == Transaction.Status.SUCCESS));
+    }
+
+    @Test
+    void shouldRejectIdempotencyKeyReusedForDifferentTransaction() throws Exception {
+        // given
+        Account source = new Account(UUID.randomUUID(), new BigDecimal(100), "GBP", Timestamp.from(Instant.now()));
+        Account target = new Account(UUID.randomUUID(), new BigDecimal(200), "GBP", Timestamp.from(Instant.now()));
+
+        Mockito.when(accountService.findById(source.getId())).thenReturn(Optional.of(source));
+        Mockito.when(accountService.findById(target.getId())).thenReturn(Optional.of(target));
+        Mockito.when(currencyConversionService.convert(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any())).then(invocation -> invocation.getArgument(0));
+
+        // when
+        sut.transfer("key", new TransactionDto(source.getId(), target.getId(), new BigDecimal(10), "GBP"));
+
+        // then
+        assertThrows(IdempotencyKeyReusedException.class, () -> sut.transfer("key", new TransactionDto(source.getId(), target.getId(), new BigDecimal(20), "GBP")));
+        assertEquals(new BigDecimal("90.00"), source.getBalance());
+    }
+
+    @Test
+    void shouldRecordTransferOutcomesAndPhases() throws Exception {
+        // given
+        Account source = new Account(UUID.randomUUID(), new BigDecimal(100), "GBP", Timestamp.from(Instant.now()));
+        Account target = new Account(UUID.randomUUID(), new BigDecimal(200), "GBP", Timestamp.from(Instant.now()));
+
+        Mockito.when(accountService.findById(source.getId())).thenReturn(Optional.of(source));
+        Mockito.when(accountService.findById(target.getId())).thenReturn(Optional.of(target));
+        Mockito.when(currencyConversionService.convert(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any())).then(invocation -> invocation.getArgument(0));
+
+        // when
+        sut.transfer(new TransactionDto(source.getId(), target.getId(), new BigDecimal(60), "GBP"));
+        assertThrows(InsufficientBalanceException.class, () -> sut.transfer(new TransactionDto(source.getId(), target.getId(), new BigDecimal(60), "GBP")));
+
+        // then
+        assertEquals(1, meterRegistry.get(TransferMetrics.OUTCOME_COUNTER).tag("outcome", TransferMetrics.SUCCESS).counter().count());
+        assertEquals(1, meterRegistry.get(TransferMetrics.OUTCOME_COUNTER).tag("outcome", "InsufficientBalanceException").counter().count());
+        assertEquals(2, meterRegistry.get(TransferMetrics.PHASE_TIMER).tag("phase", "lookup").timer().count());
+        assertEquals(1, meterRegistry.get(TransferMetrics.PHASE_TIMER).tag("phase", "update").timer().count());
+    }
+
+    @Test
+    void shouldRefundSourceWhenCrossShardCreditFails() throws Exception {
+        // given
+        TransferShards shards = new TransferShards(TransferShards.SHARDED, 2, 16, TransferSequencer.WaitStrategy.PARK);
+        TransactionService sharded = new TransactionService(new TransactionLedger(transactions), accountService, currencyConversionService, new AccountLocks(16), new TransactionJournal(false, null, 0), new IdempotencyCache(1000, 60), new TransferMetrics(meterRegistry, 1), shards, new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+        Account source = new Account(UUID.randomUUID(), new BigDecimal(100), "GBP", Timestamp.from(Instant.now()));
+        Account target = new Account(UUID.randomUUID(), new BigDecimal(200), "GBP", Timestamp.from(Instant.now()));
+        while (shards.shardOf(target.getId()) == shards.shardOf(source.getId())) {
+            target = new Account(UUID.randomUUID(), new BigDecimal(200), "GBP", Timestamp.from(Instant.now()));
+        }
+        TransactionDto dto = new TransactionDto(source.getId(), target.getId(), new BigDecimal(60), "GBP");
+
+        Mockito.when(accountService.findById(source.getId())).thenReturn(Optional.of(source));
+        Mockito.when(accountService.findById(target.getId())).thenReturn(Optional.of(target)).thenReturn(Optional.empty());
+        Mockito.when(currencyConversionService.convert(Mockito.anyLong(), Mockito.anyInt(), Mockito.anyInt(), Mockito.any())).then(invocation -> invocation.getArgument(0));
+
+        // when
+        assertThrows(AccountNotFoundException.class, () -> sharded.transfer(dto));
+        shards.close();
+
+        // then
+        assertEquals(new BigDecimal("100.00"), source.getBalance());
+        assertEquals(new BigDecimal("200.00"), target.getBalance());
+        assertEquals(Transaction.Status.FAIL, transactions.values().iterator().next().getStatus());
+    }
+
+    @Test
+    void shouldNotCreateMoneyWhenConvertedDebitIsBelowOneMinorUnit() throws Exception {
+        // given
+        TransactionService converting = new TransactionService(new TransactionLedger(transactions), accountService, new CurrencyConversionService("", RoundingMode.HALF_EVEN), new AccountLocks(16), new TransactionJournal(false, null, 0), new IdempotencyCache(1000, 60), new TransferMetrics(meterRegistry, 1), new TransferShards(TransferShards.LOCKING, 0, 1024, TransferSequencer.WaitStrategy.YIELD), new BalanceSnapshotter(false, null, 0), new TransferEventLog(1024, 1, 1024));
+        Account source = new Account(UUID.randomUUID(), new BigDecimal(100), "GBP", Timestamp.from(Instant.now()));
+        Account target = new Account(UUID.randomUUID(), new BigDecimal(200), "TRY", Timestamp.from(Instant.now()));
+        TransactionDto dto = new TransactionDto(source.getId(), target.getId(), new BigDecimal("0.01"), "TRY");
+
+        Mockito.when(accountService.findById(source.getId())).thenReturn(Optional.of(source));
+        Mockito.when(accountService.findById(target.getId())).thenReturn(Optional.of(target));
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            converting.transfer(dto);
+        }
+
+        // then
+        assertEquals(new BigDecimal("99.00"), source.getBalance());
+        assertEquals(new BigDecimal("201.00"), target.getBalance());
+    }
+}
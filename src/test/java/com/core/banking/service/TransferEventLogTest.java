@@ -0,0 +1,185 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.core.banking.model.Transaction;
+
+class TransferEventLogTest {
+
+    TransferEventLog sut = new TransferEventLog(16, 2, 16);
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    void shouldFanOutSharedFramesInOrder() throws Exception {
+        // given
+        Collecting first = new Collecting();
+        Collecting second = new Collecting();
+        sut.subscribe(null, first);
+        sut.subscribe(null, second);
+
+        // when
+        Transaction transaction = transaction();
+        sut.publish(transaction);
+        sut.publish(transaction());
+
+        // then
+        byte[] frame = first.frames.poll(5, TimeUnit.SECONDS);
+        assertSame(frame, second.frames.poll(5, TimeUnit.SECONDS));
+        assertTrue(new String(frame, StandardCharsets.UTF_8).contains("\"transactionId\":\"" + transaction.getId() + "\""));
+        assertTrue(new String(frame, StandardCharsets.UTF_8).startsWith("id: " + sut.position().split(":")[0] + ":0\nevent: transfer\n"));
+        assertTrue(new String(first.frames.poll(5, TimeUnit.SECONDS), StandardCharsets.UTF_8).contains(":1\n"));
+    }
+
+    @Test
+    void shouldResumeAfterLastEventId() throws Exception {
+        // given
+        String epoch = sut.position().split(":")[0];
+        for (int i = 0; i < 5; i++) {
+            sut.publish(transaction());
+        }
+        Collecting subscriber = new Collecting();
+
+        // when
+        sut.subscribe(epoch + ":2", subscriber);
+
+        // then
+        assertTrue(new String(subscriber.frames.poll(5, TimeUnit.SECONDS), StandardCharsets.UTF_8).startsWith("id: " + epoch + ":3\n"));
+        assertTrue(new String(subscriber.frames.poll(5, TimeUnit.SECONDS), StandardCharsets.UTF_8).startsWith("id: " + epoch + ":4\n"));
+    }
+
+    @Test
+    void shouldResyncLappedSubscriberWithoutBlockingPublishers() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        Collecting slow = new Collecting() {
+            @Override
+            public void send(byte[] frame) {
+                super.send(frame);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        sut.subscribe(null, slow);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            sut.publish(transaction());
+        }
+        release.countDown();
+
+        // then
+        assertEquals(1000, sut.getHead());
+        assertTrue(slow.closed.await(5, TimeUnit.SECONDS));
+        byte[] last = null;
+        for (byte[] frame = slow.frames.poll(); frame != null; frame = slow.frames.poll()) {
+            last = frame;
+        }
+        assertTrue(new String(last, StandardCharsets.UTF_8).startsWith("event: resync\n"));
+        assertEquals(1, sut.getResyncs());
+    }
+
+    @Test
+    void shouldDropOverflowingSubscriberWhileItsSendIsBlocked() throws Exception {
+        // given
+        TransferEventLog log = new TransferEventLog(16, 2, 4);
+        CountDownLatch release = new CountDownLatch(1);
+        Collecting slow = new Collecting() {
+            @Override
+            public void send(byte[] frame) {
+                super.send(frame);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        Collecting fast = new Collecting();
+        log.subscribe(null, slow);
+        log.subscribe(null, fast);
+
+        // when
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                log.publish(transaction());
+            }
+            for (int i = 0; i < 4; i++) {
+                assertTrue(Objects.nonNull(fast.frames.poll(5, TimeUnit.SECONDS)));
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (log.getResyncs() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // then
+        assertEquals(1, log.getResyncs());
+        assertEquals(1, log.getSubscribers());
+        release.countDown();
+        assertTrue(slow.closed.await(5, TimeUnit.SECONDS));
+        byte[] last = null;
+        for (byte[] frame = slow.frames.poll(); frame != null; frame = slow.frames.poll()) {
+            last = frame;
+        }
+        assertTrue(new String(last, StandardCharsets.UTF_8).startsWith("event: resync\n"));
+        log.close();
+    }
+
+    @Test
+    void shouldResyncUnknownPosition() throws Exception {
+        // given
+        Collecting subscriber = new Collecting();
+
+        // when
+        sut.subscribe("1:0", subscriber);
+
+        // then
+        assertTrue(subscriber.closed.await(5, TimeUnit.SECONDS));
+        assertTrue(new String(subscriber.frames.poll(), StandardCharsets.UTF_8).startsWith("event: resync\n"));
+    }
+
+    private static Transaction transaction() throws Exception {
+        Transaction transaction = new Transaction(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("12.50"), "GBP", Timestamp.from(Instant.now()));
+        transaction.setStatus(Transaction.Status.SUCCESS);
+        return transaction;
+    }
+
+    static class Collecting implements TransferEventLog.Sink {
+
+        final BlockingQueue<byte[]> frames = new LinkedBlockingQueue<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public void send(byte[] frame) {
+            frames.add(frame);
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.core.banking.exception.RateLimitedException;
+
+class TransferLimiterTest {
+
+    UUID accountId = UUID.randomUUID();
+
+    @Test
+    void shouldRejectClientBeyondBurstWithRetryAfter() throws RateLimitedException {
+        // given
+        TransferLimiter sut = new TransferLimiter(0.5, 3, 0, 0, 0, "");
+        for (int i = 0; i < 3; i++) {
+            sut.acquire("noisy", UUID.randomUUID());
+        }
+
+        // when
+        RateLimitedException exception = assertThrows(RateLimitedException.class, () -> sut.acquire("noisy", UUID.randomUUID()));
+
+        // then
+        assertTrue(exception.getRetryAfterSeconds() >= 1 && exception.getRetryAfterSeconds() <= 2);
+        assertDoesNotThrow(() -> sut.acquire("quiet", UUID.randomUUID()));
+        assertEquals(1, sut.getClientRejections());
+    }
+
+    @Test
+    void shouldRejectHotSourceAccountAcrossClientsAndRefundClientToken() throws RateLimitedException {
+        // given
+        TransferLimiter sut = new TransferLimiter(1, 2, 1, 2, 0, "");
+        sut.acquire("a", accountId);
+        sut.acquire("b", accountId);
+
+        // when
+        assertThrows(RateLimitedException.class, () -> sut.acquire("c", accountId));
+
+        // then
+        assertDoesNotThrow(() -> sut.acquire("c", UUID.randomUUID()));
+        assertDoesNotThrow(() -> sut.acquire("c", UUID.randomUUID()));
+        assertEquals(1, sut.getAccountRejections());
+    }
+
+    @Test
+    void shouldAdmitWithoutTakingClientTokensAndRejectExhaustedClient() throws RateLimitedException {
+        // given
+        TransferLimiter sut = new TransferLimiter(0.5, 2, 0, 0, 4, "");
+        sut.release(sut.admit("bulk"));
+        sut.acquire("bulk", List.of(accountId, accountId));
+
+        // when
+        RateLimitedException exception = assertThrows(RateLimitedException.class, () -> sut.admit("bulk"));
+        int admitted = sut.admit("quiet");
+
+        // then
+        assertTrue(exception.getRetryAfterSeconds() >= 1);
+        assertEquals(1, admitted);
+        assertEquals(3, sut.getInFlight());
+        assertEquals(1, sut.getClientRejections());
+    }
+
+    @Test
+    void shouldCapTransfersInFlight() throws RateLimitedException {
+        // given
+        TransferLimiter sut = new TransferLimiter(0, 0, 0, 0, 2, "");
+        sut.acquire("a", accountId);
+        sut.acquire("b", accountId);
+
+        // when
+        RateLimitedException exception = assertThrows(RateLimitedException.class, () -> sut.acquire("c", accountId));
+        sut.release();
+
+        // then
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertDoesNotThrow(() -> sut.acquire("c", accountId));
+        assertEquals(2, sut.getInFlight());
+        assertEquals(1, sut.getOverloadRejections());
+    }
+
+    @Test
+    void shouldWeighBatchesBySizeAgainstClientAndAccountLimits() throws RateLimitedException {
+        // given
+        TransferLimiter sut = new TransferLimiter(1, 4, 1, 2, 0, "");
+        sut.acquire("a", List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+
+        // when
+        RateLimitedException client = assertThrows(RateLimitedException.class, () -> sut.acquire("a", List.of(UUID.randomUUID(), UUID.randomUUID())));
+        RateLimitedException account = assertThrows(RateLimitedException.class, () -> sut.acquire("b", List.of(accountId, accountId, accountId)));
+
+        // then
+        assertEquals("client rate limit exceeded", client.getMessage());
+        assertEquals("account rate limit exceeded", account.getMessage());
+        assertDoesNotThrow(() -> sut.acquire("b", List.of(accountId, accountId)));
+        assertDoesNotThrow(() -> sut.acquire("a", UUID.randomUUID()));
+    }
+
+    @Test
+    void shouldHoldInFlightPermitsForWholeBatch() throws RateLimitedException {
+        // given
+        TransferLimiter sut = new TransferLimiter(0, 0, 0, 0, 4, "");
+        int permits = sut.acquire("a", List.of(accountId, accountId, accountId));
+
+        // when
+        RateLimitedException exception = assertThrows(RateLimitedException.class, () -> sut.acquire("b", List.of(accountId, accountId)));
+        sut.release(permits);
+
+        // then
+        assertEquals(3, permits);
+        assertEquals(1, sut.getOverloadRejections());
+        assertDoesNotThrow(() -> sut.acquire("b", List.of(accountId, accountId)));
+        assertEquals(2, sut.getInFlight());
+    }
+
+    @Test
+    void shouldTrustClientIdOnlyFromConfiguredProxies() {
+        // given
+        TransferLimiter sut = new TransferLimiter(0, 0, 0, 0, 0, "10.0.0.1, 10.0.0.2");
+
+        // when
+        String proxied = sut.clientOf("tenant", "10.0.0.2");
+        String direct = sut.clientOf("tenant", "192.168.1.7");
+        String anonymous = sut.clientOf(null, "10.0.0.1");
+
+        // then
+        assertEquals("tenant", proxied);
+        assertEquals("192.168.1.7", direct);
+        assertEquals("10.0.0.1", anonymous);
+    }
+}
@@ -0,0 +1,100 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.core.banking.exception.InsufficientBalanceException;
+import com.core.banking.model.Transaction;
+
+class TransferSequencerTest {
+
+    TransferSequencer sut = new TransferSequencer(8, TransferSequencer.WaitStrategy.PARK);
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    void shouldApplyCommandsOnSingleThreadInPublishOrder() throws Exception {
+        // given
+        List<Thread> appliedOn = new ArrayList<>();
+        long[] applied = new long[1];
+        sut.start(transaction -> {
+            appliedOn.add(Thread.currentThread());
+            return applied[0]++;
+        }, "transfer-sequencer");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<List<CompletableFuture<Long>>>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(executor.submit(() -> {
+                List<CompletableFuture<Long>> results = new ArrayList<>();
+                for (int i = 0; i < 1000; i++) {
+                    results.add(sut.submit(transaction()));
+                }
+                return results;
+            }));
+        }
+        List<Long> results = new ArrayList<>();
+        for (Future<List<CompletableFuture<Long>>> future : futures) {
+            for (CompletableFuture<Long> result : future.get()) {
+                results.add(result.join());
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(4000, results.size());
+        assertEquals(4000, results.stream().distinct().count());
+        assertTrue(appliedOn.stream().allMatch(thread -> thread == appliedOn.get(0)));
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenHandlerFails() throws Exception {
+        // given
+        sut.start(transaction -> {
+            throw new InsufficientBalanceException("insufficient balance in source account");
+        }, "transfer-sequencer");
+
+        // when
+        CompletableFuture<Long> result = sut.submit(transaction());
+
+        // then
+        CompletionException exception = assertThrows(CompletionException.class, result::join);
+        assertTrue(exception.getCause() instanceof InsufficientBalanceException);
+    }
+
+    @Test
+    void shouldRunTasksOnSequencerThread() {
+        // given
+        sut.start(transaction -> 0, "transfer-sequencer");
+
+        // when
+        CompletableFuture<Long> result = sut.submit(() -> Thread.currentThread().getName().equals("transfer-sequencer") ? 1L : 0L);
+
+        // then
+        assertEquals(1L, result.join());
+    }
+
+    private Transaction transaction() throws Exception {
+        return new Transaction(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), BigDecimal.ONE, "GBP", Timestamp.from(Instant.now()));
+    }
+}
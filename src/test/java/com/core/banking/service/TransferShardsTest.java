@@ -0,0 +1,73 @@
+package com.core.banking.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unchecked")
+class TransferShardsTest {
+
+    TransferShards sut = new TransferShards(TransferShards.SHARDED, 4, 16, TransferSequencer.WaitStrategy.PARK);
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    void shouldSpreadAccountsAcrossAllShards() {
+        // given
+        int[] counts = new int[sut.count()];
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            counts[sut.shardOf(UUID.randomUUID())]++;
+        }
+
+        // then
+        for (int count : counts) {
+            assertTrue(count > 2000);
+        }
+    }
+
+    @Test
+    void shouldPauseAllShardsWhileRunningExclusiveTask() {
+        // given
+        sut.start(transaction -> 0);
+        List<CompletableFuture<Long>> submitted = new ArrayList<>();
+
+        // when
+        boolean anyApplied = sut.exclusive(() -> {
+            for (int i = 0; i < sut.count(); i++) {
+                submitted.add(sut.shard(i).submit(() -> 1L));
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+            return submitted.stream().anyMatch(CompletableFuture::isDone);
+        });
+
+        // then
+        assertFalse(anyApplied);
+        assertEquals(sut.count(), submitted.size());
+        assertTrue(submitted.stream().allMatch(result -> result.join() == 1L));
+    }
+
+    @Test
+    void shouldNotStartWorkersInLockingMode() {
+        // given
+        TransferShards locking = new TransferShards(TransferShards.LOCKING, 4, 16, TransferSequencer.WaitStrategy.PARK);
+
+        // when, then
+        assertFalse(locking.isEnabled());
+        assertEquals(0, locking.count());
+    }
+}